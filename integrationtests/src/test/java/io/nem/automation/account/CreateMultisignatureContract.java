@@ -25,6 +25,7 @@ import cucumber.api.java.en.Given;
 import cucumber.api.java.en.Then;
 import cucumber.api.java.en.When;
 import io.nem.automation.common.BaseTest;
+import io.nem.automationHelpers.common.MultisigGraph;
 import io.nem.automationHelpers.common.TestContext;
 import io.nem.automationHelpers.helper.*;
 import io.nem.core.utils.ExceptionUtils;
@@ -60,18 +61,21 @@ public class CreateMultisignatureContract extends BaseTest {
 		multisigAccountHelper = new MultisigAccountHelper(testContext);
 	}
 
-	private List<Account> getCosignersForAccount(final Account account) {
-		Optional<MultisigAccountInfo> multisigAccountInfoOptional =
-				new AccountHelper(getTestContext()).getMultisigAccountNoThrow(account.getAddress());
-		List<Account> cosigners = new Vector<>();
-		if (multisigAccountInfoOptional.isPresent()) {
-			cosigners = multisigAccountInfoOptional.get().getCosignatories().parallelStream().map(publicAccount ->  {
-				final Account cosignerAccount = getUserAccountFromContext(publicAccount.getAddress());
-				return getCosignersForAccount(cosignerAccount);
-			}).flatMap(Collection::stream).collect(Collectors.toList());
-		}
-		if (cosigners.isEmpty()) {
-			cosigners.add(account);
+	private List<Account> getCosignersForAccounts(final List<Account> accounts) {
+		final MultisigGraph multisigGraph =
+				new MultisigGraphHelper(getTestContext())
+						.getMultisigGraph(accounts.stream().map(Account::getPublicAccount).collect(Collectors.toList()));
+		final List<Account> cosigners = new ArrayList<>();
+		for (final Account account : accounts) {
+			if (!multisigGraph.isMultisig(account.getPublicKey())) {
+				cosigners.add(account);
+				continue;
+			}
+			multisigGraph.getLeafCosignatories(account.getPublicKey()).forEach(publicKey -> {
+				final PublicAccount publicAccount =
+						PublicAccount.createFromPublicKey(publicKey, getTestContext().getNetworkType());
+				cosigners.add(getUserAccountFromContext(publicAccount.getAddress()));
+			});
 		}
 		return cosigners;
 	}
@@ -85,16 +89,16 @@ public class CreateMultisignatureContract extends BaseTest {
 			final List<String> cosignatories) {
 		final Account signerAccount = getUser(userName);
 		final Account multiSigAccount = getUserWithCurrency(multisigAccountName);
-		getTestContext().getLogger().LogError("MultiSig account " + multisigAccountName + " public key:" + multiSigAccount.getPublicKey());
-		final List<Account> cosignerAccounts = new Vector<>(cosignatories.size());
-		final List<PublicAccount> accountsAdditions =
+		getTestContext().getLogger().LogError("MultiSig account {} public key:{}", multisigAccountName, multiSigAccount.getPublicKey());
+		final List<Account> cosignatoryAccounts =
 				cosignatories.parallelStream().map(name -> {
 			final Account account = getUserWithCurrency(name);
-			getTestContext().getLogger().LogError("Cosigner account " + name + " public key:" + account.getPublicKey());
-			final List<Account> cosigners = getCosignersForAccount(account);
-			cosignerAccounts.addAll(cosigners);
-			return account.getPublicAccount();
+			getTestContext().getLogger().LogError("Cosigner account {} public key:{}", name, account.getPublicKey());
+			return account;
 		}).collect(Collectors.toList());
+		final List<Account> cosignerAccounts = getCosignersForAccounts(cosignatoryAccounts);
+		final List<PublicAccount> accountsAdditions =
+				cosignatoryAccounts.stream().map(Account::getPublicAccount).collect(Collectors.toList());
 		final MultisigAccountModificationTransaction modifyMultisigAccountTransaction =
 				multisigAccountHelper.createMultisigAccountModificationTransaction(
 						minimumApproval, minimumRemoval, accountsAdditions, new ArrayList<>());
@@ -112,24 +116,9 @@ public class CreateMultisignatureContract extends BaseTest {
 	}
 
 	private int getMultisigAccountLevelDepth(final PublicAccount account) {
-		final MultisigAccountInfo multisigAccountInfo;
-		int level = 0;
-
-		try {
-			multisigAccountInfo =
-					new AccountHelper(getTestContext()).getMultisigAccount(account.getAddress());
-		}
-		catch (final Exception e) {
-			return level;
-		}
-		final List<PublicAccount> cosigners = multisigAccountInfo.getCosignatories();
-		for (final PublicAccount cosigner : cosigners) {
-			final int cosignerLevel = getMultisigAccountLevelDepth(cosigner) + 1;
-			if (cosignerLevel > level) {
-				level = cosignerLevel;
-			}
-		}
-		return level;
+		return new MultisigGraphHelper(getTestContext())
+				.getMultisigGraph(Arrays.asList(account))
+				.getDepth(account.getPublicKey().toHex());
 	}
 
 	@Given(
@@ -156,10 +145,8 @@ public class CreateMultisignatureContract extends BaseTest {
 		final Account account = getUser(AUTOMATION_USER_ALICE);
 		final SignedTransaction signedTransaction = getTestContext().getSignedTransaction();
 		final BigInteger duration = BigInteger.valueOf(10);
-		final AggregateHelper aggregateHelper = new AggregateHelper(getTestContext());
-		aggregateHelper.submitLockFundForBondedTransaction(account, signedTransaction, duration);
-		final TransactionHelper transactionHelper = new TransactionHelper(getTestContext());
-		transactionHelper.announceAggregateBonded(signedTransaction);
+		final Mosaic mosaicToLock = NetworkCurrencyMosaic.createRelative(BigInteger.valueOf(10));
+		new BondedPipelineHelper(getTestContext()).announce(account, signedTransaction, mosaicToLock, duration);
 		getTestContext().setSignedTransaction(signedTransaction);
 	}
 
@@ -175,15 +162,14 @@ public class CreateMultisignatureContract extends BaseTest {
 	public void cosignMultiSignatureAccount() {
 		final List<Account> cosignatories =
 				getTestContext().getScenarioContext().getContext(COSIGNATORIES_LIST);
+		final Account multisigAccount =
+				getTestContext().getScenarioContext().getContext(MULTISIG_ACCOUNT_INFO);
 		final SignedTransaction signedTransaction = getTestContext().getSignedTransaction();
 		final TransactionHelper transactionHelper = new TransactionHelper(getTestContext());
-		final AggregateTransaction aggregateTransaction =
-				transactionHelper.waitForBondedTransaction(signedTransaction);
-		final AggregateHelper aggregateHelper = new AggregateHelper(getTestContext());
-		cosignatories.forEach(
-				(final Account account) -> {
-					aggregateHelper.cosignAggregateBonded(account, aggregateTransaction);
-				});
+		transactionHelper.waitForBondedTransaction(signedTransaction);
+		// The cosigner service signs for the whole tree at once, as soon as it sees the partial transaction.
+		new CosignerHelper(getTestContext())
+				.register(cosignatories, CosignerHelper.signedBy(multisigAccount.getPublicAccount()));
 	}
 
 	@And("^(\\w+) account is convert to multisig$")
@@ -27,7 +27,6 @@ import cucumber.api.java.en.When;
 import io.nem.automation.common.BaseTest;
 import io.nem.automationHelpers.common.TestContext;
 import io.nem.automationHelpers.helper.*;
-import io.nem.core.utils.ExceptionUtils;
 import io.nem.sdk.model.account.Account;
 import io.nem.sdk.model.account.AccountInfo;
 import io.nem.sdk.model.mosaic.*;
@@ -36,7 +35,6 @@ import io.nem.sdk.model.transaction.SignedTransaction;
 import io.nem.sdk.model.transaction.TransactionType;
 
 import java.math.BigInteger;
-import java.util.Random;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
@@ -213,7 +211,7 @@ mosaicFlags,
 	public void registerSupplyMutableAsset(
 			final String username, final AssetSupplyType supplyMutableType, final BigInteger amount) {
 		final Account account = getUser(username);
-		final boolean transferable = new Random(System.currentTimeMillis()).nextBoolean();
+		final boolean transferable = CommonHelper.getRandomNextBoolean();
 		final int divisibility = CommonHelper.getRandomDivisibility();
 		final BigInteger initialSupply = amount;
 		final boolean supplyMutable = supplyMutableType == AssetSupplyType.MUTABLE;
@@ -248,8 +246,8 @@ mosaicFlags,
 	@Given("^(\\w+) has registered an asset with an initial supply of (\\w+) units$")
 	public void registerNonSupplyMutableAsset(final String userName, final int amount) {
 		final Account account = getUser(userName);
-		final boolean transferable = new Random(System.currentTimeMillis()).nextBoolean();
-		final boolean supplyMutable = new Random(System.currentTimeMillis()).nextBoolean();
+		final boolean transferable = CommonHelper.getRandomNextBoolean();
+		final boolean supplyMutable = CommonHelper.getRandomNextBoolean();
 		final int divisibility = CommonHelper.getRandomDivisibility();
 		final BigInteger initialSupply = BigInteger.valueOf(amount);
 		final MosaicFlags mosaicFlags = MosaicFlags.create(supplyMutable, transferable);
@@ -334,9 +332,7 @@ mosaicFlags,
 			throw new IllegalStateException(errorMessage);
 		}
 		final long endHeight = mosaicInfo.getStartHeight().longValue() + mosaicInfo.getDuration().longValue();
-		while (blockchainDao.getBlockchainHeight().longValue() <= endHeight) {
-			ExceptionUtils.propagateVoid(() -> Thread.sleep(1000));
-		}
+		blockchainDao.waitForBlockchainHeight(endHeight + 1);
 	}
 
 }
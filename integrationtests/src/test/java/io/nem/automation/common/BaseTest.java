@@ -20,9 +20,11 @@
 
 package io.nem.automation.common;
 
+import io.nem.automationHelpers.common.AccountSnapshot;
+import io.nem.automationHelpers.common.AccountStateDiff;
+import io.nem.automationHelpers.common.MosaicBalances;
 import io.nem.automationHelpers.common.TestContext;
 import io.nem.automationHelpers.helper.*;
-import io.nem.core.utils.ExceptionUtils;
 import io.nem.sdk.model.account.Account;
 import io.nem.sdk.model.account.AccountInfo;
 import io.nem.sdk.model.account.AccountType;
@@ -37,6 +39,7 @@ import io.nem.sdk.model.transaction.TransferTransaction;
 
 import java.math.BigInteger;
 import java.util.*;
+import java.util.stream.Collectors;
 
 /**
  * Base for all the test suit.
@@ -54,6 +57,7 @@ public abstract class BaseTest {
   protected static final String MOSAIC_INFO_KEY = "mosaicInfo";
   protected static final String NAMESPACE_INFO_KEY = "namespaceInfo";
   protected static final String MOSAIC_EUROS_KEY = "euros";
+  protected static final String ACCOUNT_SNAPSHOT_KEY = "accountSnapshot";
   private static boolean initialized = false;
   protected final String COSIGNATORIES_LIST = "cosignatories";
   protected final String MULTISIG_ACCOUNT_INFO = "multisigAccount";
@@ -126,26 +130,60 @@ public abstract class BaseTest {
    * @param testContext Test context.
    */
   public static void saveInitialAccountInfo(final TestContext testContext) {
-    CORE_USER_ACCOUNTS
-            .entrySet()
-            .parallelStream()
-            .forEach(
-                    nameAccount ->
-                            storeUserInfoInContext(
-                                    nameAccount.getKey(), nameAccount.getValue().getAddress(), testContext));
+    storeUsersInfoInContext(CORE_USER_ACCOUNTS, testContext);
   }
 
   /**
-   * Save user info.
+   * Save user info for a set of users. The info and balances of all the users are fetched with a single query.
    *
-   * @param name        Name of the user.
-   * @param address     Address of the user.
+   * @param users       Map of user names and accounts.
    * @param testContext Test context.
    */
-  protected static void storeUserInfoInContext(
-          final String name, final Address address, final TestContext testContext) {
-    final AccountHelper accountHelper = new AccountHelper(testContext);
-    Optional<AccountInfo> accountInfo = accountHelper.getAccountInfoNoThrow(address);
+  protected static void storeUsersInfoInContext(
+          final Map<String, Account> users, final TestContext testContext) {
+    final List<Address> addresses =
+            users.values().stream().map(Account::getAddress).collect(Collectors.toList());
+    final Map<String, AccountInfo> accountInfos =
+            new AccountHelper(testContext).getAccountInfos(addresses);
+    final Map<String, MosaicBalances> balances = new HashMap<>(accountInfos.size());
+    users.forEach(
+            (name, account) -> {
+              final AccountInfo accountInfo = accountInfos.get(account.getAddress().plain());
+              storeAccountInfoInContext(name, account.getAddress(), Optional.ofNullable(accountInfo), testContext);
+              if (null != accountInfo) {
+                balances.put(account.getAddress().plain(), MosaicBalances.fromMosaics(accountInfo.getMosaics()));
+              }
+            });
+    mergeAccountSnapshotInContext(new AccountSnapshot(balances), testContext);
+  }
+
+  /**
+   * Gets the account snapshot of all the users stored in the context.
+   *
+   * @param testContext Test context.
+   * @return Account snapshot.
+   */
+  protected static AccountSnapshot getAccountSnapshotFromContext(final TestContext testContext) {
+    final AccountSnapshot accountSnapshot =
+            testContext.getScenarioContext().getContext(ACCOUNT_SNAPSHOT_KEY);
+    return accountSnapshot == null ? AccountSnapshot.EMPTY : accountSnapshot;
+  }
+
+  private static void mergeAccountSnapshotInContext(
+          final AccountSnapshot accountSnapshot, final TestContext testContext) {
+    testContext
+            .getScenarioContext()
+            .updateContext(
+                    ACCOUNT_SNAPSHOT_KEY,
+                    (final AccountSnapshot current) ->
+                            (current == null ? AccountSnapshot.EMPTY : current).merge(accountSnapshot));
+  }
+
+  private static AccountInfo storeAccountInfoInContext(
+          final String name,
+          final Address address,
+          Optional<AccountInfo> accountInfo,
+          final TestContext testContext) {
     if (!accountInfo.isPresent()) {
       testContext
               .getLogger()
@@ -164,6 +202,37 @@ public abstract class BaseTest {
                               AccountType.UNLINKED));
     }
     testContext.getScenarioContext().setContext(name, accountInfo.get());
+    return accountInfo.get();
+  }
+
+  /**
+   * Save user info.
+   *
+   * @param name        Name of the user.
+   * @param address     Address of the user.
+   * @param testContext Test context.
+   */
+  protected static void storeUserInfoInContext(
+          final String name, final Address address, final TestContext testContext) {
+    final AccountInfo accountInfo =
+            storeAccountInfoInContext(
+                    name, address, new AccountHelper(testContext).getAccountInfoNoThrow(address), testContext);
+    final Map<String, MosaicBalances> balances = new HashMap<>();
+    balances.put(address.plain(), MosaicBalances.fromMosaics(accountInfo.getMosaics()));
+    mergeAccountSnapshotInContext(new AccountSnapshot(balances), testContext);
+  }
+
+  /**
+   * Gets the changes of a set of accounts since their info was stored in the context.
+   * The current state of all the accounts is fetched with a single query.
+   *
+   * @param addresses Account addresses.
+   * @return Account state diff.
+   */
+  protected AccountStateDiff getAccountStateDiff(final Collection<Address> addresses) {
+    final AccountSnapshot accountSnapshot =
+            new AccountHelper(getTestContext()).getAccountSnapshot(addresses);
+    return new AccountStateDiff(getAccountSnapshotFromContext(getTestContext()), accountSnapshot);
   }
 
   private static Account getUserAccount(final String username, final TestContext testContext) {
@@ -301,13 +370,51 @@ public abstract class BaseTest {
 			return CommonHelper.getAccount(
 					username, getTestContext().getNetworkType());
 		}
+		final Account account = createUserWithCurrency(username, amount);
+		storeUserInfoInContext(username);
+		return account;
+	}
+
+	/**
+	 * Gets the accounts with the given names if already exist or
+	 * creates new accounts with the given names and amount of cat.currency.
+	 * The info and balances of the new accounts are read back with a single query.
+	 *
+	 * @param usernames Names of the accounts.
+	 * @param amount amount of default asset to give each new user
+	 * @return Map of user names and accounts.
+	 */
+	protected Map<String, Account> getUsersWithCurrency(final List<String> usernames, final Integer amount) {
+		final Mosaic mosaic = NetworkCurrencyMosaic.createRelative(BigInteger.valueOf(amount));
+		final AccountHelper accountHelper = new AccountHelper(testContext);
+		final AggregatePackerHelper aggregatePackerHelper = new AggregatePackerHelper(testContext);
+		final Map<String, Account> newAccounts = new HashMap<>();
+		usernames.stream()
+				.filter(username -> !CommonHelper.accountExist(username))
+				.distinct()
+				.forEach(
+						username -> newAccounts.put(username, accountHelper.createAccountWithAsset(mosaic, aggregatePackerHelper)));
+		aggregatePackerHelper.submitAndWait();
+		newAccounts.forEach(
+				(username, account) -> {
+					addUser(username, account);
+					storeUserAccountInContext(account);
+				});
+		storeUsersInfoInContext(newAccounts, getTestContext());
+		final Map<String, Account> accounts = new HashMap<>(usernames.size());
+		usernames.forEach(
+				username ->
+						accounts.put(username, CommonHelper.getAccount(username, getTestContext().getNetworkType())));
+		return accounts;
+	}
+
+	private Account createUserWithCurrency(final String username, final Integer amount) {
 		final Mosaic mosaic = NetworkCurrencyMosaic.createRelative(BigInteger.valueOf(amount));
 		final Account account = new AccountHelper(testContext).createAccountWithAsset(mosaic);
-      addUser(username, account);
-      storeUserAccountInContext(account);
-      storeUserInfoInContext(username);
-      return account;
-    }
+		addUser(username, account);
+		storeUserAccountInContext(account);
+		return account;
+	}
 
   /**
    * Add a test account.
@@ -481,10 +588,7 @@ public abstract class BaseTest {
    * @param height Height of the block chain.
    */
   protected void waitForBlockChainHeight(final long height) {
-    final BlockChainHelper blockChainDao = new BlockChainHelper(getTestContext());
-    while (blockChainDao.getBlockchainHeight().longValue() <= height) {
-      ExceptionUtils.propagateVoid(() -> Thread.sleep(1000));
-    }
+    new BlockChainHelper(getTestContext()).waitForBlockchainHeight(height + 1);
   }
 
   /**
@@ -25,8 +25,15 @@ import cucumber.api.java.After;
 import cucumber.api.java.Before;
 import cucumber.runtime.ScenarioImpl;
 import io.nem.automationHelpers.common.Log;
+import io.nem.automationHelpers.common.RetryMetrics;
+import io.nem.automationHelpers.common.ScenarioTimingHistory;
 import io.nem.automationHelpers.common.TestContext;
 import io.nem.automationHelpers.helper.CommonHelper;
+import io.nem.automationHelpers.helper.CosignerHelper;
+import io.nem.automationHelpers.helper.NamespacePoolHelper;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import static io.nem.automation.common.BaseTest.CORE_USER_ACCOUNTS;
 
@@ -36,6 +43,8 @@ import static io.nem.automation.common.BaseTest.CORE_USER_ACCOUNTS;
 public class Hooks {
 	private final TestContext testContext;
 	private ScenarioNameMap scenarioNameMap;
+	private long scenarioStartTime;
+	private Map<String, RetryMetrics> retryMetricsAtStart;
 
 	public Hooks(final TestContext testContext) {
 		this.testContext = testContext;
@@ -53,12 +62,14 @@ public class Hooks {
 		scenarioNameMap.addScenario(scenarioName);
 		final Log logger = Log.getLogger(scenarioName);
 		logger.scenarioStart(scenarioName);
+		retryMetricsAtStart = RetryMetrics.getSnapshot();
 
 		BaseTest.initialized(testContext);
 		BaseTest.saveInitialAccountInfo(testContext);
 		// Clear the test users
 		CommonHelper.clearUsers();
 		CommonHelper.addAllUser(CORE_USER_ACCOUNTS);
+		scenarioStartTime = System.nanoTime();
 	}
 
 	/**
@@ -71,6 +82,18 @@ public class Hooks {
 		final String scenarioName = scenario.getName();
 		final Log logger = Log.getLogger(scenarioName);
 		logger.scenarioEnd(scenarioName, scenario.getStatus().ordinal());
+		ScenarioTimingHistory.getInstance(testContext.getConfigFileReader().getScenarioTimingHistoryFile())
+				.record(scenario.getId(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - scenarioStartTime));
+		new NamespacePoolHelper(testContext).releaseLeases();
+		new CosignerHelper(testContext).unregisterAll();
+		// The counters are shared by the process, so parallel scenarios show up in each other's window.
+		RetryMetrics.getSnapshot().forEach(
+				(operation, retryMetrics) -> {
+					final RetryMetrics windowMetrics = retryMetrics.since(retryMetricsAtStart.get(operation));
+					if (windowMetrics.getAttempts() > 0) {
+						logger.LogInfo("Process wide retry {} during the scenario: {}", operation, windowMetrics);
+					}
+				});
 		if (scenario.isFailed()) {
 			ScenarioImpl impl = (ScenarioImpl) scenario;
 			logger.LogException(impl.getError());
@@ -24,9 +24,9 @@ import cucumber.api.java.en.And;
 import cucumber.api.java.en.Given;
 import cucumber.api.java.en.When;
 import io.nem.automation.common.BaseTest;
+import io.nem.automationHelpers.common.RandomSource;
 import io.nem.automationHelpers.common.TestContext;
 import io.nem.automationHelpers.helper.*;
-import io.nem.core.utils.ExceptionUtils;
 import io.nem.sdk.model.account.Account;
 import io.nem.sdk.model.account.AccountInfo;
 import io.nem.sdk.model.mosaic.Mosaic;
@@ -35,7 +35,6 @@ import io.nem.sdk.model.transaction.LockHashAlgorithmType;
 import org.bouncycastle.util.encoders.Hex;
 
 import java.math.BigInteger;
-import java.security.SecureRandom;
 
 public class ExchangeAssetsAcrossDifferentBlockchains extends BaseTest {
 	private final String SECRET_HASH_LENGTH = "secretHashLength";
@@ -53,8 +52,7 @@ public class ExchangeAssetsAcrossDifferentBlockchains extends BaseTest {
 	public void createSecretSeed(final String userName, final LockHashAlgorithmType hashType) {
 		final int NO_OF_RANDOM_BYTES = getTestContext().getScenarioContext().isContains(SECRET_HASH_LENGTH) ?
 				getTestContext().getScenarioContext().getContext(SECRET_HASH_LENGTH) : CommonHelper.getRandomValueInRange(1, 1000);
-		final byte[] randomBytes = new byte[NO_OF_RANDOM_BYTES];
-		ExceptionUtils.propagateVoid(() -> SecureRandom.getInstanceStrong().nextBytes(randomBytes));
+		final byte[] randomBytes = RandomSource.nextSecretBytes(NO_OF_RANDOM_BYTES);
 		final String proof = Hex.toHexString(randomBytes);
 		getTestContext().getScenarioContext().setContext(SECRET_PROOF, proof);
 		final byte[] secretHashBytes = new SecretLockHelper(getTestContext()).getHashInLittleEndian(hashType, randomBytes);
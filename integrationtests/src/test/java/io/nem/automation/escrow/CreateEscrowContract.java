@@ -25,13 +25,11 @@ import cucumber.api.java.en.And;
 import cucumber.api.java.en.Given;
 import cucumber.api.java.en.When;
 import io.nem.automation.common.BaseTest;
+import io.nem.automationHelpers.common.AccountStateDiff;
 import io.nem.automationHelpers.common.TestContext;
 import io.nem.automationHelpers.helper.*;
-import io.nem.core.utils.ExceptionUtils;
 import io.nem.sdk.model.account.Account;
-import io.nem.sdk.model.account.AccountInfo;
 import io.nem.sdk.model.account.Address;
-import io.nem.sdk.model.account.PublicAccount;
 import io.nem.sdk.model.message.PlainMessage;
 import io.nem.sdk.model.mosaic.Mosaic;
 import io.nem.sdk.model.mosaic.MosaicId;
@@ -40,14 +38,13 @@ import io.nem.sdk.model.transaction.*;
 
 import java.math.BigInteger;
 import java.util.*;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
-import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 /**
  * Create escrow contract tests.
@@ -68,7 +65,6 @@ public class CreateEscrowContract extends BaseTest {
 				final NamespaceId namespaceId = getNamespaceIdFromName(mosaicData[1]);
 				final TransferHelper transferHelper = new TransferHelper(getTestContext());
 				final List<Mosaic> mosaics = Arrays.asList(new Mosaic(namespaceId, amount));
-				storeUserInfoInContext(recipientName);
 				getTestContext().getScenarioContext().setContext(recipientAccount.getAddress().plain(), recipientName);
 				return transferHelper.createTransferTransaction(
 						recipientAccount.getAddress(), mosaics, PlainMessage.Empty);
@@ -111,20 +107,27 @@ public class CreateEscrowContract extends BaseTest {
 
 	private List<Transaction> getTransactionListFromTable(final DataTable dataTable) {
 		final List<Map<String, String>> data = dataTable.asMaps(String.class, String.class);
-		final List<Account> senders = new ArrayList<>(data.size());
-		final List<Transaction> transactions = new ArrayList<>(data.size());
-		for (int i = 0; i < data.size(); i++) {
-			final Map<String, String> transactionInfo = data.get(i);
-			final String transactionType = transactionInfo.get(TRANSACTION_TYPE_HEADER);
-			final Transaction transaction =
-					transactionFunctionMap.get(transactionType).apply(transactionInfo);
-			final String senderName = transactionInfo.get(TRANSACTION_SENDER_HEADER);
-			final Account senderAccount = getUser(senderName);
-			transactions.add(transaction.toAggregate(senderAccount.getPublicAccount()));
-			senders.add(senderAccount);
-			storeUserInfoInContext(senderName);
-			getTestContext().getScenarioContext().setContext(senderAccount.getAddress().plain(), senderName);
+		final AsyncSetupHelper asyncSetupHelper = new AsyncSetupHelper(getTestContext());
+		final List<CompletableFuture<Transaction>> rows = new ArrayList<>(data.size());
+		final Map<String, Account> participants = new ConcurrentHashMap<>();
+		for (final Map<String, String> transactionInfo : data) {
+			rows.add(asyncSetupHelper.submit(() -> {
+				final String transactionType = transactionInfo.get(TRANSACTION_TYPE_HEADER);
+				final Transaction transaction =
+						transactionFunctionMap.get(transactionType).apply(transactionInfo);
+				final String senderName = transactionInfo.get(TRANSACTION_SENDER_HEADER);
+				final Account senderAccount = getUser(senderName);
+				participants.put(senderName, senderAccount);
+				if (TransactionType.TRANSFER == transaction.getType()) {
+					final String recipientName = transactionInfo.get(TRANSACTION_RECIPIENT_HEADER);
+					participants.put(recipientName, getUser(recipientName));
+				}
+				getTestContext().getScenarioContext().setContext(senderAccount.getAddress().plain(), senderName);
+				return transaction.toAggregate(senderAccount.getPublicAccount());
+			}));
 		}
+		final List<Transaction> transactions = asyncSetupHelper.await(rows);
+		storeUsersInfoInContext(participants, getTestContext());
 		return transactions;
 	}
 
@@ -148,48 +151,21 @@ public class CreateEscrowContract extends BaseTest {
 		signedAggregateTransaction(userName, aggregateTransaction, new ArrayList<>());
 	}
 
-	private void verifyTransfer(final TransferTransaction transferTransaction) {
-		final PublicAccount sender = transferTransaction.getSigner().get();
-		final AccountInfo senderAccountInfo = getAccountInfoFromContext(sender.getAddress());
-		verifySenderAsset(senderAccountInfo, transferTransaction.getMosaics());
-		final Address recipientAddress = (Address)transferTransaction.getRecipient();
-		final AccountInfo recipientAccountInfo = getAccountInfoFromContext(recipientAddress);
-		verifyRecipientAsset(recipientAccountInfo, transferTransaction.getMosaics());
-	}
-
-	private void verifyRecipientAsset(
-			final AccountInfo recipientAccountInfo, final List<Mosaic> mosaics) {
-		for (final Mosaic mosaic : mosaics) {
-			final MosaicId mosaicId = new NamespaceHelper(getTestContext()).getLinkedMosaicId((NamespaceId) mosaic.getId());
-			final Optional<Mosaic> initialMosaic = getMosaic(recipientAccountInfo, mosaicId);
-			final long initialAmount =
-					initialMosaic.isPresent() ? initialMosaic.get().getAmount().longValue() : 0;
-			final AccountInfo recipientAccountInfoAfter =
-					new AccountHelper(getTestContext()).getAccountInfo(recipientAccountInfo.getAddress());
-			final Optional<Mosaic> mosaicAfter = getMosaic(recipientAccountInfoAfter, mosaicId);
-			final String errorMessage =
-					"Recipient("
-							+ recipientAccountInfoAfter.getAddress().pretty()
-							+ ") did not receive Asset mosaic id:"
-							+ mosaicId;
-			assertEquals(errorMessage, true, mosaicAfter.isPresent());
-			assertEquals(
-					errorMessage,
-					mosaic.getAmount().longValue(),
-					mosaicAfter.get().getAmount().longValue() - initialAmount);
-		}
-	}
-
-	private void verifySenderAsset(final AccountInfo senderAccountInfo, final List<Mosaic> mosaics) {
-		for (final Mosaic mosaic : mosaics) {
-			final MosaicId mosaicId = new NamespaceHelper(getTestContext()).getLinkedMosaicId((NamespaceId) mosaic.getId());
-			final Mosaic initialMosaic = getMosaic(senderAccountInfo, mosaicId).get();
-			final AccountInfo senderAccountInfoAfter =
-					new AccountHelper(getTestContext()).getAccountInfo(senderAccountInfo.getAddress());
-			final Mosaic mosaicAfter = getMosaic(senderAccountInfoAfter, mosaicId).get();
-			assertEquals(
-					mosaic.getAmount().longValue(),
-					initialMosaic.getAmount().longValue() - mosaicAfter.getAmount().longValue());
+	private void addTransferChanges(
+			final TransferTransaction transferTransaction,
+			final AccountStateDiff.ExpectedChanges expectedChanges,
+			final Map<Long, MosaicId> linkedMosaicIds) {
+		final NamespaceHelper namespaceHelper = new NamespaceHelper(getTestContext());
+		final Address senderAddress = transferTransaction.getSigner().get().getAddress();
+		final Address recipientAddress = (Address) transferTransaction.getRecipient();
+		for (final Mosaic mosaic : transferTransaction.getMosaics()) {
+			final MosaicId mosaicId =
+					linkedMosaicIds.computeIfAbsent(
+							mosaic.getId().getIdAsLong(),
+							id -> namespaceHelper.getLinkedMosaicId((NamespaceId) mosaic.getId()));
+			final long amount = mosaic.getAmount().longValue();
+			expectedChanges.add(senderAddress, mosaicId, -amount);
+			expectedChanges.add(recipientAddress, mosaicId, amount);
 		}
 	}
 
@@ -219,13 +195,19 @@ public class CreateEscrowContract extends BaseTest {
 		final int lastTransactionIndex = getTestContext().getTransactions().size() - 1;
 		final AggregateTransaction aggregateTransaction =
 				(AggregateTransaction) getTestContext().getTransactions().get(lastTransactionIndex);
+		final AccountStateDiff.ExpectedChanges expectedChanges = new AccountStateDiff.ExpectedChanges();
+		final Map<Long, MosaicId> linkedMosaicIds = new HashMap<>();
 		for (final Transaction transaction : aggregateTransaction.getInnerTransactions()) {
 			switch (transaction.getType()) {
 				case TRANSFER:
-					verifyTransfer((TransferTransaction) transaction);
+					addTransferChanges((TransferTransaction) transaction, expectedChanges, linkedMosaicIds);
 					break;
 			}
 		}
+		final List<Address> participants =
+				expectedChanges.getAddresses().stream().map(Address::createFromRawAddress).collect(Collectors.toList());
+		final List<String> mismatches = getAccountStateDiff(participants).getMismatches(expectedChanges);
+		assertTrue("Swap of assets did not conclude. " + String.join(", ", mismatches), mismatches.isEmpty());
 	}
 
 	@And("^\"(\\w+)\" accepted the contract$")
@@ -271,22 +253,19 @@ public class CreateEscrowContract extends BaseTest {
 		final int numberOfAccountsToCreate = numberOfAccounts + 1;
 		final Account account = getUser(userName);
 
-		final Vector<Transaction> innerTransaction = new Vector<>(numberOfAccountsToCreate);
 		final NamespaceHelper namespaceHelper = new NamespaceHelper(getTestContext());
-		final Vector<Account> cosigners = new Vector<>(numberOfAccountsToCreate);
-		ExecutorService es = Executors.newCachedThreadPool();
+		final AsyncSetupHelper asyncSetupHelper = new AsyncSetupHelper(getTestContext());
+		final List<CompletableFuture<Account>> signers = new ArrayList<>(numberOfAccountsToCreate);
 		for (int i = 0; i < numberOfAccountsToCreate; i++) {
 			final String signerName = userName + i;
-			final String namespaceName = "test" + i;
-			es.execute(() -> {
-				final Account signer = getUser(signerName);
-				cosigners.add(signer);
-				final Transaction transaction = namespaceHelper.createRootNamespaceTransaction(namespaceName, BigInteger.valueOf(5));
-				innerTransaction.add(transaction.toAggregate(signer.getPublicAccount()));
-			});
+			signers.add(asyncSetupHelper.submit(() -> getUser(signerName)));
+		}
+		final List<Account> cosigners = asyncSetupHelper.await(signers);
+		final List<Transaction> innerTransaction = new ArrayList<>(numberOfAccountsToCreate);
+		for (int i = 0; i < numberOfAccountsToCreate; i++) {
+			final Transaction transaction = namespaceHelper.createRootNamespaceTransaction("test" + i, BigInteger.valueOf(5));
+			innerTransaction.add(transaction.toAggregate(cosigners.get(i).getPublicAccount()));
 		}
-		final long timeoutInSeconds = 8 * BLOCK_CREATION_TIME_IN_SECONDS;
-		ExceptionUtils.propagateVoid(() -> es.awaitTermination(timeoutInSeconds, TimeUnit.SECONDS));
 		final AggregateTransaction aggregateTransaction =
 				new AggregateHelper(getTestContext()).createAggregateCompleteTransaction(innerTransaction);
 		signedAggregateTransaction(userName, aggregateTransaction, cosigners);
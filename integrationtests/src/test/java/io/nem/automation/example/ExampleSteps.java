@@ -14,6 +14,8 @@ package io.nem.automation.example;
 import cucumber.api.java.en.Given;
 import cucumber.api.java.en.Then;
 import cucumber.api.java.en.When;
+import io.nem.automationHelpers.common.AccountReservoir;
+import io.nem.automationHelpers.common.RandomSource;
 import io.nem.automationHelpers.common.TestContext;
 import io.nem.automationHelpers.helper.*;
 import io.nem.core.utils.ExceptionUtils;
@@ -32,7 +34,6 @@ import io.nem.sdk.model.transaction.*;
 import org.bouncycastle.util.encoders.Hex;
 
 import java.math.BigInteger;
-import java.security.SecureRandom;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -58,7 +59,7 @@ public class ExampleSteps {
 		NetworkType networkType = testContext.getNetworkType();
 		testContext
 				.getScenarioContext()
-				.setContext(recipientAccountKey, Account.generateNewAccount(networkType));
+				.setContext(recipientAccountKey, AccountReservoir.getInstance(networkType).generateNewAccount());
 	}
 
 	@When("^Bob transfer (\\d+) XEM to Jill$")
@@ -76,8 +77,7 @@ public class ExampleSteps {
 
 
 		final byte NO_OF_RANDOM_BYTES = 100;
-		final byte[] randomBytes = new byte[NO_OF_RANDOM_BYTES];
-		ExceptionUtils.propagateVoid(() -> SecureRandom.getInstanceStrong().nextBytes(randomBytes));
+		final byte[] randomBytes = RandomSource.nextSecretBytes(NO_OF_RANDOM_BYTES);
 		final String proof = Hex.toHexString(randomBytes);
 		final SecretLockHelper secretLockHelper = new SecretLockHelper(testContext);
 		final byte[] secretHashBytes = secretLockHelper.getHashInLittleEndian(LockHashAlgorithmType.SHA3_256, randomBytes);
@@ -117,7 +117,7 @@ public class ExampleSteps {
 		});
 		runnables.add(() -> {
 			final TransactionHelper transactionHelper = new TransactionHelper(testContext);
-			final Account recipientAccount = Account.generateNewAccount(networkType);
+			final Account recipientAccount = AccountReservoir.getInstance(networkType).generateNewAccount();
 			final TransferTransaction transferTransaction1 =
 					TransferTransactionFactory.create(
 							networkType,
@@ -161,7 +161,7 @@ public class ExampleSteps {
 				6,
 				BigInteger.TEN);
 		runnables.add(() -> {
-			final Account recipientAccount = Account.generateNewAccount(networkType);
+			final Account recipientAccount = AccountReservoir.getInstance(networkType).generateNewAccount();
 			final MosaicSupplyChangeTransaction mosaicSupplyChangeTransaction = MosaicSupplyChangeTransactionFactory.create(networkType,
 					mosaic.getMosaicId(), MosaicSupplyChangeActionType.INCREASE, BigInteger.valueOf(CommonHelper.getRandomValueInRange(1,
 							1000000))).build();
@@ -169,7 +169,7 @@ public class ExampleSteps {
 			transactionHelper.signAndAnnounceTransactionAndWait(signerAccount, () -> mosaicSupplyChangeTransaction);
 				});
 		runnables.add(() -> {
-			final Account recipientAccount = Account.generateNewAccount(networkType);
+			final Account recipientAccount = AccountReservoir.getInstance(networkType).generateNewAccount();
 			final MosaicSupplyChangeTransaction mosaicSupplyChangeTransaction = MosaicSupplyChangeTransactionFactory.create(networkType,
 					mosaic.getMosaicId(), MosaicSupplyChangeActionType.INCREASE, BigInteger.valueOf(CommonHelper.getRandomValueInRange(1,
 							1000000))).build();
@@ -28,6 +28,7 @@ import io.nem.automation.common.BaseTest;
 import io.nem.automationHelpers.common.TestContext;
 import io.nem.automationHelpers.helper.CommonHelper;
 import io.nem.automationHelpers.helper.NamespaceHelper;
+import io.nem.automationHelpers.helper.NamespacePoolHelper;
 import io.nem.sdk.model.account.Account;
 import io.nem.sdk.model.account.AccountInfo;
 import io.nem.sdk.model.namespace.NamespaceId;
@@ -133,16 +134,36 @@ public class RegisterNamespace extends BaseTest {
 	public void accountWithNotNetworkCurrency(final String user) {
 	}
 
-	@Given("^(\\w+) registered the namespace \"(\\w+)\"$")
 	@And("^(\\w+) registers new namespace (\\w+)$")
 	public void registerNamespace(final String userName, final String namespaceName) {
 		final BigInteger duration = BigInteger.valueOf(20);
 		final String randomName = CommonHelper.getRandomNamespaceName(namespaceName);
 		getTestContext().getScenarioContext().setContext(namespaceName, randomName);
-		getTestContext().getScenarioContext().setContext(namespaceName + "Count", 20);
+		getTestContext().getScenarioContext().setContext(namespaceName + "Count", duration);
 		registerNamespaceForUserAndWait(userName, randomName, duration);
 	}
 
+	@Given("^(\\w+) registered the namespace \"(\\w+)\"$")
+	public void registeredNamespace(final String userName, final String namespaceName) {
+		// Only the default signer keeps its account between scenarios, so only its namespaces can be pooled.
+		if (!AUTOMATION_USER_ALICE.equals(userName)) {
+			registerNamespace(userName, namespaceName);
+			return;
+		}
+		storeUserInfoInContext(userName);
+		final NamespacePoolHelper.PooledNamespace pooledNamespace =
+				new NamespacePoolHelper(getTestContext()).lease(getUser(userName));
+		final NamespaceInfo namespaceInfo = namespaceHelper.getNamesapceInfo(pooledNamespace.getNamespaceId());
+		final int gracePeriod = getTestContext().getConfigFileReader().getNamespaceGracePeriodInBlocks();
+		getTestContext().getScenarioContext().setContext(namespaceName, pooledNamespace.getName());
+		getTestContext().getScenarioContext().setContext(
+				namespaceName + "Count",
+				namespaceInfo.getEndHeight().subtract(namespaceInfo.getStartHeight()).subtract(BigInteger.valueOf(gracePeriod)));
+		getTestContext().getScenarioContext().setContext(NAMESPACE_INFO_KEY, namespaceInfo);
+		getTestContext().clearTransaction();
+		getTestContext().addTransaction(pooledNamespace.getRegistrationTransaction());
+	}
+
 	@And("^(\\w+) should become the owner of the new namespace (\\w+)$")
 	public void verifyNamespaceOwnership(final String userName, final String namespaceName) {
 		final String randomName = getTestContext().getScenarioContext().getContext(namespaceName);
@@ -32,7 +32,7 @@ public class AccountRestrictionAddress extends BaseTest {
 
     @Given("^the following accounts exist:$")
     public void theFollowingAccountsExists(final List<String> usernames) {
-        usernames.parallelStream().forEach(username -> getUserWithCurrency(username, 3000));
+        getUsersWithCurrency(usernames, 3000);
         //usernames.forEach(username -> getTestContext().getLogger().LogInfo(getAccountInfoFromContext(username).toString()));
     }
 
@@ -41,7 +41,7 @@ public class AccountRestrictionAddress extends BaseTest {
         final Account signerAccount = getUser(username);
         final List<UnresolvedAddress> additions = new ArrayList<>();
         blockedAccounts.forEach(blockedAccount -> additions.add(getAccountInfoFromContext(blockedAccount).getAddress()));
-        accountRestrictionHelper.createAccountAddressRestrictionTransactionAndWait(
+        accountRestrictionHelper.createAccountAddressRestrictionBatchAndWait(
                 signerAccount, AccountRestrictionType.BLOCK_ADDRESS, additions, new ArrayList<>());
     }
 
@@ -54,7 +54,7 @@ public class AccountRestrictionAddress extends BaseTest {
         final Account signerAccount = getUser(username);
         final List<UnresolvedAddress> additions = new ArrayList<>();
         allowedAccounts.forEach(allowedAccount -> additions.add(getAccountInfoFromContext(allowedAccount).getAddress()));
-        accountRestrictionHelper.createAccountAddressRestrictionTransactionAndWait(
+        accountRestrictionHelper.createAccountAddressRestrictionBatchAndWait(
                 signerAccount, AccountRestrictionType.ALLOW_INCOMING_ADDRESS, additions, new ArrayList<>());
     }
 
@@ -129,13 +129,11 @@ public class AccountRestrictionAddress extends BaseTest {
     @When("^(\\w+) tries to block receiving transactions from (\\d+) different addresses$")
     public void userTriesToBlockReceivingTransactionsFromDifferentAddresses(final String username, final int count) {
         final Account signerAccount = getUser(username);
-        final List<UnresolvedAddress> modifications = new ArrayList<>();
         //The tester will have run the step to create loads of addresses
         final List<String> randomAddresses = getTestContext().getScenarioContext().getContext("randomAddressesList");
         //TODO: assuming that at least count + 1 addresses are registered. May be better to check and throw if not.
-        randomAddresses.stream().limit(count + 1).collect(Collectors.toList()).parallelStream().forEach(address -> {
-            modifications.add(getUser(address).getAddress());
-        });
+        final List<UnresolvedAddress> modifications = randomAddresses.stream().limit(count + 1)
+                .map(address -> getUser(address).getAddress()).collect(Collectors.toList());
         accountRestrictionHelper.createAccountAddressRestrictionTransactionAndAnnounce(signerAccount,
                 AccountRestrictionType.BLOCK_ADDRESS, modifications, new ArrayList<>());
     }
@@ -143,12 +141,10 @@ public class AccountRestrictionAddress extends BaseTest {
     @When("^(\\w+) tries to only allow receiving transactions from (\\d+) different addresses$")
     public void userTriesToAllowReceivingTransactionsFromDifferentAddresses(final String username, final int count) {
         final Account signerAccount = getUser(username);
-        final List<UnresolvedAddress> modifications = new ArrayList<>();
         final List<String> randomAddresses = getTestContext().getScenarioContext().getContext("randomAddressesList");
         //TODO: assuming that at least count + 1 addresses are registered. May be better to check and throw if not.
-        randomAddresses.stream().limit(count + 1).collect(Collectors.toList()).parallelStream().forEach(address -> {
-            modifications.add(getUser(address).getAddress());
-        });
+        final List<UnresolvedAddress> modifications = randomAddresses.stream().limit(count + 1)
+                .map(address -> getUser(address).getAddress()).collect(Collectors.toList());
         accountRestrictionHelper.createAccountAddressRestrictionTransactionAndAnnounce(signerAccount,
                 AccountRestrictionType.ALLOW_INCOMING_ADDRESS, modifications, new ArrayList<>());
     }
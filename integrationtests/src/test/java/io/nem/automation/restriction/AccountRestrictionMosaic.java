@@ -2,21 +2,22 @@ package io.nem.automation.restriction;
 
 import cucumber.api.java.en.Given;
 import cucumber.api.java.en.When;
-import io.nem.automation.asset.AssetRegistration;
 import io.nem.automation.common.BaseTest;
 import io.nem.automationHelpers.common.TestContext;
 import io.nem.automationHelpers.helper.AccountRestrictionHelper;
-import io.nem.core.utils.ExceptionUtils;
+import io.nem.automationHelpers.helper.CommonHelper;
+import io.nem.automationHelpers.helper.MosaicPoolHelper;
 import io.nem.sdk.model.account.Account;
-import io.nem.sdk.model.mosaic.MosaicId;
+import io.nem.sdk.model.mosaic.MosaicFlags;
+import io.nem.sdk.model.mosaic.MosaicInfo;
 import io.nem.sdk.model.mosaic.UnresolvedMosaicId;
 import io.nem.sdk.model.transaction.AccountRestrictionType;
 import org.apache.commons.lang3.RandomStringUtils;
 
+import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Collectors;
 
 public class AccountRestrictionMosaic extends BaseTest {
@@ -34,14 +35,14 @@ public class AccountRestrictionMosaic extends BaseTest {
 
     @Given("^(\\w+) has the following assets registered and active:$")
     public void theFollowingAssetsAreRegisteredAndActive(final String userName, final List<String> assets) {
-        final AssetRegistration assetRegistration = new AssetRegistration(getTestContext());
-        // Alice already has cat.currency registered to her. What happens if we try to register again?
-        ForkJoinPool customThreadPool = new ForkJoinPool(100);
-        ExceptionUtils.propagate( () ->
-                customThreadPool.submit(
-                        () -> assets.parallelStream().forEach(asset ->
-                                assetRegistration.registerAsset(userName, asset))).get());
-//        getTestContext().getLogger().LogInfo(getAccountInfoFromContext(userName).toString());
+        // Each asset gets its own random flags and divisibility, as a single registration would.
+        final List<MosaicInfo> mosaics =
+                new MosaicPoolHelper(getTestContext()).mint(getUser(userName),
+                        () -> MosaicFlags.create(CommonHelper.getRandomNextBoolean(), CommonHelper.getRandomNextBoolean()),
+                        CommonHelper::getRandomDivisibility, BigInteger.ZERO, BigInteger.valueOf(10), assets.size());
+        for (int i = 0; i < assets.size(); i++) {
+            storeMosaicInfo(assets.get(i), mosaics.get(i));
+        }
     }
 
     @When("^(\\w+) allows receiving transactions containing the following assets:$")
@@ -50,7 +51,7 @@ public class AccountRestrictionMosaic extends BaseTest {
         final Account signerAccount = getUser(username);
         final List<UnresolvedMosaicId> additions = new ArrayList<>();
         allowedAssets.forEach(asset -> additions.add(resolveMosaicId(asset)));
-        accountRestrictionHelper.createAccountMosaicRestrictionTransactionAndWait(
+        accountRestrictionHelper.createAccountMosaicRestrictionBatchAndWait(
                 signerAccount, AccountRestrictionType.ALLOW_INCOMING_MOSAIC, additions, new ArrayList<>());
     }
 
@@ -60,7 +61,7 @@ public class AccountRestrictionMosaic extends BaseTest {
         final Account signerAccount = getUser(username);
         final List<UnresolvedMosaicId> additions = new ArrayList<>();
         blockedAssets.forEach(asset -> additions.add(resolveMosaicId(asset)));
-        accountRestrictionHelper.createAccountMosaicRestrictionTransactionAndWait(
+        accountRestrictionHelper.createAccountMosaicRestrictionBatchAndWait(
                 signerAccount, AccountRestrictionType.BLOCK_MOSAIC, additions, new ArrayList<>());
     }
 
@@ -70,7 +71,7 @@ public class AccountRestrictionMosaic extends BaseTest {
         final Account signerAccount = getUser(username);
         final List<UnresolvedMosaicId> deletions = new ArrayList<>();
         allowedAssets.forEach(asset -> deletions.add(resolveMosaicId(asset)));
-        accountRestrictionHelper.createAccountMosaicRestrictionTransactionAndWait(
+        accountRestrictionHelper.createAccountMosaicRestrictionBatchAndWait(
                 signerAccount, AccountRestrictionType.ALLOW_INCOMING_MOSAIC, new ArrayList<>(), deletions);
     }
 
@@ -80,7 +81,7 @@ public class AccountRestrictionMosaic extends BaseTest {
         final Account signerAccount = getUser(username);
         final List<UnresolvedMosaicId> deletions = new ArrayList<>();
         blockedAssets.forEach(asset -> deletions.add(resolveMosaicId(asset)));
-        accountRestrictionHelper.createAccountMosaicRestrictionTransactionAndWait(
+        accountRestrictionHelper.createAccountMosaicRestrictionBatchAndWait(
                 signerAccount, AccountRestrictionType.BLOCK_MOSAIC, new ArrayList<>(), deletions);
     }
 
@@ -160,13 +161,10 @@ public class AccountRestrictionMosaic extends BaseTest {
     @When("^(\\w+) tries to (add|delete) more than (\\d+) restrictions in a transaction$")
     public void userTriesToAddOrDeleteTooManyRestrictionsInATransaction(final String username, final String addOrDelete, final int count) {
         final Account signerAccount = getUser(username);
-        List<UnresolvedMosaicId> modifications = new ArrayList<>();
         List<String> assets = getTestContext().getScenarioContext().getContext("randomAssetsList");
         //TODO: assuming that at least count + 1 assets are registered. May be better to check and throw if not.
-        assets.stream().limit(count + 1).collect(Collectors.toList()).parallelStream().forEach(asset -> {
-            MosaicId mosaicId = resolveMosaicId(asset);
-            modifications.add(mosaicId);
-        });
+        List<UnresolvedMosaicId> modifications = assets.stream().limit(count + 1)
+                .map(this::resolveMosaicId).collect(Collectors.toList());
         if (addOrDelete.equalsIgnoreCase("add")) {
             accountRestrictionHelper.createAccountMosaicRestrictionTransactionAndAnnounce(signerAccount,
                     AccountRestrictionType.BLOCK_MOSAIC, modifications, new ArrayList<>());
@@ -178,9 +176,15 @@ public class AccountRestrictionMosaic extends BaseTest {
 
     @Given("^(\\w+) has (\\d+) different assets registered and active$")
     public void userHasGivenNumberOfDifferentAssetsRegisteredAndActive(final String username, final int count) {
+        // Only the mosaic ids are used, so the assets can come from the pool of the default signer.
+        final List<MosaicInfo> mosaics = new MosaicPoolHelper(getTestContext())
+                .take(MosaicFlags.create(true, true), 0, BigInteger.ZERO, count);
         List<String> assets = new ArrayList<>(count);
-        for (int i = 0; i < count; i++) assets.add(RandomStringUtils.randomAlphanumeric(10));
-        this.theFollowingAssetsAreRegisteredAndActive(username, assets);
+        for (final MosaicInfo mosaicInfo : mosaics) {
+            final String assetName = RandomStringUtils.randomAlphanumeric(10);
+            storeMosaicInfo(assetName, mosaicInfo);
+            assets.add(assetName);
+        }
         getTestContext().getScenarioContext().setContext("randomAssetsList", assets);
     }
 }
\ No newline at end of file
@@ -36,8 +36,8 @@ public class AccountRestrictionOperation extends BaseTest {
     public void blocksSendingTransactionsOfType(final String userName, final List<String> transactionTypesToBlock) {
         final Account userAccount = getUser(userName);
         final List<TransactionType> additions = new ArrayList<>();
-        transactionTypesToBlock.parallelStream().forEach(transactionType -> additions.add(TransactionType.valueOf(transactionType)));
-        accountRestrictionHelper.createAccountTransactionTypeRestrictionTransactionAndWait(userAccount,
+        transactionTypesToBlock.forEach(transactionType -> additions.add(TransactionType.valueOf(transactionType)));
+        accountRestrictionHelper.createAccountTransactionTypeRestrictionBatchAndWait(userAccount,
                 AccountRestrictionType.BLOCK_OUTGOING_TRANSACTION_TYPE, additions, new ArrayList<>());
     }
 
@@ -45,7 +45,7 @@ public class AccountRestrictionOperation extends BaseTest {
     public void triesToBlockSendingTransactionsOfType(final String userName, final List<String> transactionTypesToBlock) {
         final Account userAccount = getUser(userName);
         final List<TransactionType> additions = new ArrayList<>();
-        transactionTypesToBlock.parallelStream().forEach(transactionType -> additions.add(TransactionType.valueOf(transactionType)));
+        transactionTypesToBlock.forEach(transactionType -> additions.add(TransactionType.valueOf(transactionType)));
         accountRestrictionHelper.createAccountTransactionTypeRestrictionTransactionAndAnnounce(userAccount,
                 AccountRestrictionType.BLOCK_OUTGOING_TRANSACTION_TYPE, additions, new ArrayList<>());
     }
@@ -54,8 +54,8 @@ public class AccountRestrictionOperation extends BaseTest {
     public void onlyAllowsSendingTransactionsOfType(final String userName, final List<String> transactionTypesToAllow) {
         final Account userAccount = getUser(userName);
         final List<TransactionType> additions = new ArrayList<>();
-        transactionTypesToAllow.parallelStream().forEach(transactionType -> additions.add(TransactionType.valueOf(transactionType)));
-        accountRestrictionHelper.createAccountTransactionTypeRestrictionTransactionAndWait(userAccount,
+        transactionTypesToAllow.forEach(transactionType -> additions.add(TransactionType.valueOf(transactionType)));
+        accountRestrictionHelper.createAccountTransactionTypeRestrictionBatchAndWait(userAccount,
                 AccountRestrictionType.ALLOW_OUTGOING_TRANSACTION_TYPE, additions, new ArrayList<>());
     }
 
@@ -63,7 +63,7 @@ public class AccountRestrictionOperation extends BaseTest {
     public void triesToOnlyAllowSendingTransactionsOfType(final String userName, final List<String> transactionTypesToAllow) {
         final Account userAccount = getUser(userName);
         final List<TransactionType> additions = new ArrayList<>();
-        transactionTypesToAllow.parallelStream().forEach(transactionType -> additions.add(TransactionType.valueOf(transactionType)));
+        transactionTypesToAllow.forEach(transactionType -> additions.add(TransactionType.valueOf(transactionType)));
         accountRestrictionHelper.createAccountTransactionTypeRestrictionTransactionAndAnnounce(userAccount,
                 AccountRestrictionType.ALLOW_OUTGOING_TRANSACTION_TYPE, additions, new ArrayList<>());
     }
@@ -23,12 +23,12 @@ package io.nem.automation.transaction;
 import cucumber.api.java.en.Then;
 import cucumber.api.java.en.When;
 import io.nem.automation.common.BaseTest;
+import io.nem.automationHelpers.common.AccountReservoir;
 import io.nem.automationHelpers.common.TestContext;
 import io.nem.automationHelpers.helper.NetworkHelper;
 import io.nem.automationHelpers.helper.TransactionHelper;
 import io.nem.automationHelpers.helper.TransferHelper;
 import io.nem.core.utils.ExceptionUtils;
-import io.nem.core.utils.RetryCommand;
 import io.nem.sdk.model.account.Account;
 import io.nem.sdk.model.account.Address;
 import io.nem.sdk.model.blockchain.NetworkType;
@@ -38,7 +38,6 @@ import io.nem.sdk.model.transaction.*;
 import java.math.BigInteger;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
-import java.util.Optional;
 
 import static org.junit.Assert.assertEquals;
 
@@ -64,7 +63,7 @@ public class SendTransaction extends BaseTest {
 
 	private TransferTransaction createTransaction(
 			final Deadline deadline, final BigInteger maxFee, final NetworkType networkType) {
-		final Address recipientAddress = Account.generateNewAccount(networkType).getAddress();
+		final Address recipientAddress = AccountReservoir.getInstance(networkType).generateNewAccount().getAddress();
 		return transferHelper.createTransferTransaction(
 				deadline,
 				maxFee,
@@ -114,7 +113,7 @@ public class SendTransaction extends BaseTest {
 	@When("^(\\w+) announces the transaction with invalid signature$")
 	public void announcesTransactionInvalidSignature(final String userName) {
 		final Account sender = getUser(userName);
-		final Account signingAccount = Account.generateNewAccount(networkHelper.getNetworkType());
+		final Account signingAccount = AccountReservoir.getInstance(networkHelper.getNetworkType()).generateNewAccount();
 		final TransferTransaction transferTransaction =
 				createTransaction(
 						TransactionHelper.getDefaultDeadline(),
@@ -150,19 +149,7 @@ public class SendTransaction extends BaseTest {
 	@Then("^(.*) should receive the error \"(\\w+)\"$")
 	public void verifyTransactionError(final String userName, final String error) {
 		final SignedTransaction signedTransaction = getTestContext().getSignedTransaction();
-		final int maxTries = 20;
-		final int waitTimeInMilliseconds = 1000;
-		final TransactionStatus status =
-				new RetryCommand<TransactionStatus>(maxTries, waitTimeInMilliseconds, Optional.empty())
-						.run(
-								(final RetryCommand<TransactionStatus> retryCommand) -> {
-									final TransactionStatus current = new TransactionHelper(getTestContext())
-											.getTransactionStatus(signedTransaction.getHash());
-									if (current.getStatus().toUpperCase().startsWith("FAILURE_")) {
-										return current;
-									}
-									throw new RuntimeException("Transaction has not failed yet. TransactionStatus: " + current.toString());
-								});
+		final TransactionStatus status = transactionHelper.waitForTransactionFailure(signedTransaction.getHash());
 		assertEquals(
 				"Transaction " + signedTransaction.toString() + " did not fail.",
 				error.toUpperCase(),
@@ -25,10 +25,12 @@ import cucumber.api.java.en.Given;
 import cucumber.api.java.en.Then;
 import cucumber.api.java.en.When;
 import io.nem.automation.common.BaseTest;
+import io.nem.automationHelpers.common.AccountStateDiff;
 import io.nem.automationHelpers.common.TestContext;
 import io.nem.automationHelpers.helper.*;
 import io.nem.sdk.model.account.Account;
 import io.nem.sdk.model.account.AccountInfo;
+import io.nem.sdk.model.account.Address;
 import io.nem.sdk.model.message.PlainMessage;
 import io.nem.sdk.model.mosaic.Mosaic;
 import io.nem.sdk.model.mosaic.MosaicFlags;
@@ -139,19 +141,10 @@ public class SendAsset extends BaseTest {
 
   @And("^(\\w+) balance should remain intact$")
   public void VerifyAssetIntact(final String userName) {
-    final AccountInfo accountInfo = getAccountInfoFromContext(userName);
-    final AccountInfo accountInfoAfter =
-        new AccountHelper(getTestContext()).getAccountInfo(accountInfo.getAddress());
-    assertEquals(accountInfo.getMosaics().size(), accountInfoAfter.getMosaics().size());
-    for (int i = 0; i < accountInfo.getMosaics().size(); ++i) {
-      final Mosaic initial = accountInfo.getMosaics().get(i);
-      final Mosaic after = accountInfoAfter.getMosaics().get(i);
-      assertEquals(initial.getId().getIdAsLong(), after.getId().getIdAsLong());
-      assertEquals(
-          "Quantity check for mosaic id: " + initial.getId().getIdAsLong(),
-          initial.getAmount().longValue(),
-          after.getAmount().longValue());
-    }
+    final Address address = getAccountInfoFromContext(userName).getAddress();
+    final AccountStateDiff accountStateDiff = getAccountStateDiff(Arrays.asList(address));
+    assertTrue(
+        "Balance changed for account: " + address.pretty(), accountStateDiff.isUnchanged(address));
   }
 
 	@When("^(\\w+) tries to send (-?\\d+) asset \"(.*)\" to (.*)$")
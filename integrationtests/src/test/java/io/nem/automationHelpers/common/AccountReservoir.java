@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2016-present,
+ * Jaguar0625, gimre, BloodyRookie, Tech Bureau, Corp. All rights reserved.
+ *
+ * This file is part of Catapult.
+ *
+ * Catapult is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Catapult is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Catapult.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.nem.automationHelpers.common;
+
+import io.nem.automationHelpers.config.ConfigFileReader;
+import io.nem.sdk.model.account.Account;
+import io.nem.sdk.model.blockchain.NetworkType;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+/**
+ * Reservoir of pre-generated accounts. A fork join pool refills it in the background so key generation does not
+ * run on the calling thread.
+ */
+public class AccountReservoir {
+	private static final Map<NetworkType, AccountReservoir> instances = new ConcurrentHashMap<>();
+	private static final ForkJoinPool fillPool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+	private final NetworkType networkType;
+	private final ConfigFileReader configFileReader;
+	private final Queue<Account> accounts = new ConcurrentLinkedQueue<>();
+	private final AtomicInteger size = new AtomicInteger();
+	private final AtomicBoolean filling = new AtomicBoolean();
+
+	/**
+	 * Constructor.
+	 *
+	 * @param networkType      Network type.
+	 * @param configFileReader Config reader.
+	 */
+	private AccountReservoir(final NetworkType networkType, final ConfigFileReader configFileReader) {
+		this.networkType = networkType;
+		this.configFileReader = configFileReader;
+	}
+
+	/**
+	 * Gets the shared reservoir for a network type.
+	 *
+	 * @param networkType Network type.
+	 * @return Account reservoir.
+	 */
+	public static AccountReservoir getInstance(final NetworkType networkType) {
+		return instances.computeIfAbsent(
+				networkType,
+				type -> new AccountReservoir(type, new ConfigFileReader()));
+	}
+
+	/**
+	 * Takes a new account from the reservoir. Generates one on the calling thread if the reservoir is empty.
+	 *
+	 * @return New account.
+	 */
+	public Account generateNewAccount() {
+		final Account account = accounts.poll();
+		if (null == account) {
+			fill();
+			return Account.generateNewAccount(networkType);
+		}
+		if (size.decrementAndGet() <= configFileReader.getAccountReservoirHighWaterMark() / 2) {
+			fill();
+		}
+		return account;
+	}
+
+	/**
+	 * Gets the number of accounts ready to be handed out.
+	 *
+	 * @return Number of accounts.
+	 */
+	public int size() {
+		return size.get();
+	}
+
+	private void fill() {
+		if (!filling.compareAndSet(false, true)) {
+			return;
+		}
+		fillPool.execute(() -> {
+			try {
+				IntStream.range(0, configFileReader.getAccountReservoirHighWaterMark() - size.get()).parallel().forEach(i -> {
+					accounts.add(Account.generateNewAccount(networkType));
+					size.incrementAndGet();
+				});
+			} finally {
+				filling.set(false);
+			}
+		});
+	}
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2016-present,
+ * Jaguar0625, gimre, BloodyRookie, Tech Bureau, Corp. All rights reserved.
+ *
+ * This file is part of Catapult.
+ *
+ * Catapult is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Catapult is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Catapult.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.nem.automationHelpers.common;
+
+import io.nem.sdk.model.account.Address;
+import io.nem.sdk.model.mosaic.MosaicId;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable snapshot of the mosaic balances of a set of accounts keyed by address.
+ */
+public class AccountSnapshot {
+	/**
+	 * Snapshot without accounts.
+	 */
+	public static final AccountSnapshot EMPTY = new AccountSnapshot(new HashMap<>());
+	private final Map<String, MosaicBalances> balances;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param balances Balances keyed by plain address.
+	 */
+	public AccountSnapshot(final Map<String, MosaicBalances> balances) {
+		this.balances = Collections.unmodifiableMap(new HashMap<>(balances));
+	}
+
+	/**
+	 * Checks if the account was found when the snapshot was taken.
+	 *
+	 * @param address Account address.
+	 * @return True if the account is in the snapshot.
+	 */
+	public boolean contains(final Address address) {
+		return balances.containsKey(address.plain());
+	}
+
+	/**
+	 * Gets the balances of an account.
+	 *
+	 * @param address Account address.
+	 * @return Mosaic balances or empty balances if the account is not in the snapshot.
+	 */
+	public MosaicBalances getBalances(final Address address) {
+		return getBalances(address.plain());
+	}
+
+	/**
+	 * Gets the balances of an account.
+	 *
+	 * @param plainAddress Plain account address.
+	 * @return Mosaic balances or empty balances if the account is not in the snapshot.
+	 */
+	public MosaicBalances getBalances(final String plainAddress) {
+		return balances.getOrDefault(plainAddress, MosaicBalances.EMPTY);
+	}
+
+	/**
+	 * Gets the amount of a mosaic owned by an account.
+	 *
+	 * @param address  Account address.
+	 * @param mosaicId Mosaic id.
+	 * @return Amount or 0 if not owned.
+	 */
+	public long getAmount(final Address address, final MosaicId mosaicId) {
+		return getBalances(address).getAmount(mosaicId);
+	}
+
+	/**
+	 * Gets the plain addresses in the snapshot.
+	 *
+	 * @return Set of plain addresses.
+	 */
+	public Set<String> getAddresses() {
+		return balances.keySet();
+	}
+
+	/**
+	 * Creates a new snapshot with the accounts of both snapshots. Accounts in the other snapshot take precedence.
+	 *
+	 * @param other Other snapshot.
+	 * @return Merged snapshot.
+	 */
+	public AccountSnapshot merge(final AccountSnapshot other) {
+		final Map<String, MosaicBalances> merged = new HashMap<>(balances);
+		merged.putAll(other.balances);
+		return new AccountSnapshot(merged);
+	}
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2016-present,
+ * Jaguar0625, gimre, BloodyRookie, Tech Bureau, Corp. All rights reserved.
+ *
+ * This file is part of Catapult.
+ *
+ * Catapult is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Catapult is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Catapult.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.nem.automationHelpers.common;
+
+import io.nem.sdk.model.account.Address;
+import io.nem.sdk.model.mosaic.MosaicId;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Per account, per mosaic amount changes between two account snapshots.
+ */
+public class AccountStateDiff {
+	private final Map<String, MosaicBalances> deltas;
+	private final Set<String> comparedAddresses;
+
+	/**
+	 * Constructor. Only the accounts in the after snapshot are compared, so the before snapshot can hold more
+	 * accounts. Accounts missing from the before snapshot are treated as new accounts.
+	 *
+	 * @param before Snapshot taken before the change.
+	 * @param after  Snapshot taken after the change.
+	 */
+	public AccountStateDiff(final AccountSnapshot before, final AccountSnapshot after) {
+		final Set<String> addresses = after.getAddresses();
+		final Map<String, MosaicBalances> accountDeltas = new HashMap<>(addresses.size());
+		for (final String address : addresses) {
+			final MosaicBalances accountDelta = subtract(after.getBalances(address), before.getBalances(address));
+			if (accountDelta.size() > 0) {
+				accountDeltas.put(address, accountDelta);
+			}
+		}
+		deltas = Collections.unmodifiableMap(accountDeltas);
+		comparedAddresses = Collections.unmodifiableSet(new HashSet<>(addresses));
+	}
+
+	private static MosaicBalances subtract(final MosaicBalances after, final MosaicBalances before) {
+		final int maxSize = after.size() + before.size();
+		final long[] mosaicIds = new long[maxSize];
+		final long[] amounts = new long[maxSize];
+		int count = 0;
+		int afterIndex = 0;
+		int beforeIndex = 0;
+		while (afterIndex < after.size() || beforeIndex < before.size()) {
+			final long mosaicId;
+			final long delta;
+			if (beforeIndex == before.size()
+					|| (afterIndex < after.size() && after.getMosaicIdAt(afterIndex) < before.getMosaicIdAt(beforeIndex))) {
+				mosaicId = after.getMosaicIdAt(afterIndex);
+				delta = after.getAmountAt(afterIndex++);
+			} else if (afterIndex == after.size() || before.getMosaicIdAt(beforeIndex) < after.getMosaicIdAt(afterIndex)) {
+				mosaicId = before.getMosaicIdAt(beforeIndex);
+				delta = -before.getAmountAt(beforeIndex++);
+			} else {
+				mosaicId = after.getMosaicIdAt(afterIndex);
+				delta = after.getAmountAt(afterIndex++) - before.getAmountAt(beforeIndex++);
+			}
+			if (delta != 0) {
+				mosaicIds[count] = mosaicId;
+				amounts[count++] = delta;
+			}
+		}
+		final long[] trimmedIds = new long[count];
+		final long[] trimmedAmounts = new long[count];
+		System.arraycopy(mosaicIds, 0, trimmedIds, 0, count);
+		System.arraycopy(amounts, 0, trimmedAmounts, 0, count);
+		return MosaicBalances.create(trimmedIds, trimmedAmounts);
+	}
+
+	/**
+	 * Gets the amount change of a mosaic for an account.
+	 *
+	 * @param address  Account address.
+	 * @param mosaicId Mosaic id.
+	 * @return Amount change. Positive if the account received the mosaic.
+	 */
+	public long getDelta(final Address address, final MosaicId mosaicId) {
+		return getDeltas(address).getAmount(mosaicId);
+	}
+
+	/**
+	 * Gets all the amount changes for an account.
+	 *
+	 * @param address Account address.
+	 * @return Amount changes keyed by mosaic id.
+	 */
+	public MosaicBalances getDeltas(final Address address) {
+		return deltas.getOrDefault(address.plain(), MosaicBalances.EMPTY);
+	}
+
+	/**
+	 * Checks if none of the mosaics of an account changed.
+	 *
+	 * @param address Account address.
+	 * @return True if the account did not change. False if the account is not in the after snapshot.
+	 */
+	public boolean isUnchanged(final Address address) {
+		return comparedAddresses.contains(address.plain()) && !deltas.containsKey(address.plain());
+	}
+
+	/**
+	 * Compares a table of expected changes with the actual changes.
+	 *
+	 * @param expectedChanges Expected changes.
+	 * @return Description of each mismatch. Empty if all the expected changes happened. Accounts which are not in
+	 * the after snapshot are mismatches.
+	 */
+	public List<String> getMismatches(final ExpectedChanges expectedChanges) {
+		final List<String> mismatches = new ArrayList<>();
+		expectedChanges.changes.forEach(
+				(address, mosaicChanges) -> {
+					if (!comparedAddresses.contains(address)) {
+						mismatches.add("Account " + address + " was not found after the change");
+						return;
+					}
+					mosaicChanges.forEach(
+						(mosaicId, expected) -> {
+							final long actual = deltas.getOrDefault(address, MosaicBalances.EMPTY).getAmount(mosaicId);
+							if (actual != expected) {
+								mismatches.add(
+										"Account " + address + " mosaic id: " + Long.toHexString(mosaicId)
+												+ " expected change: " + expected + " actual change: " + actual);
+							}
+						});
+				});
+		return mismatches;
+	}
+
+	/**
+	 * Table of expected amount changes.
+	 */
+	public static class ExpectedChanges {
+		private final Map<String, Map<Long, Long>> changes = new HashMap<>();
+
+		/**
+		 * Adds an expected change. Changes for the same account and mosaic are accumulated.
+		 *
+		 * @param address  Account address.
+		 * @param mosaicId Mosaic id.
+		 * @param delta    Amount change.
+		 * @return This table.
+		 */
+		public ExpectedChanges add(final Address address, final MosaicId mosaicId, final long delta) {
+			changes.computeIfAbsent(address.plain(), key -> new HashMap<>())
+					.merge(mosaicId.getIdAsLong(), delta, Long::sum);
+			return this;
+		}
+
+		/**
+		 * Gets the accounts in the table.
+		 *
+		 * @return Set of plain addresses.
+		 */
+		public Set<String> getAddresses() {
+			return changes.keySet();
+		}
+	}
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2016-present,
+ * Jaguar0625, gimre, BloodyRookie, Tech Bureau, Corp. All rights reserved.
+ *
+ * This file is part of Catapult.
+ *
+ * Catapult is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Catapult is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Catapult.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.nem.automationHelpers.common;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tracks when the chain height last changed to estimate when the next block is due.
+ */
+public final class BlockClock {
+	private static long lastHeight = -1;
+	private static long lastBlockTimeInMillis = -1;
+	private static long lastObservedTimeInMillis = -1;
+
+	private BlockClock() {
+	}
+
+	/**
+	 * Records an observed chain height.
+	 *
+	 * @param height Chain height.
+	 */
+	public static synchronized void observeHeight(final long height) {
+		lastObservedTimeInMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime());
+		if (height > lastHeight) {
+			if (lastHeight >= 0) {
+				lastBlockTimeInMillis = lastObservedTimeInMillis;
+			}
+			lastHeight = height;
+		}
+	}
+
+	/**
+	 * Checks if the chain height was not observed recently.
+	 *
+	 * @param maxAgeInMillis Maximum age of the last observation.
+	 * @return True if the height was never observed or the last observation is older than the maximum age.
+	 */
+	public static synchronized boolean isStale(final long maxAgeInMillis) {
+		return lastObservedTimeInMillis < 0
+				|| TimeUnit.NANOSECONDS.toMillis(System.nanoTime()) - lastObservedTimeInMillis > maxAgeInMillis;
+	}
+
+	/**
+	 * Gets the estimated time until the next block.
+	 *
+	 * @param blockTimeInMillis Target block time.
+	 * @return Milliseconds until the next block or -1 if no block change was observed yet.
+	 */
+	public static synchronized long getMillisUntilNextBlock(final long blockTimeInMillis) {
+		if (lastBlockTimeInMillis < 0) {
+			return -1;
+		}
+		final long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime()) - lastBlockTimeInMillis;
+		return blockTimeInMillis - elapsed % blockTimeInMillis;
+	}
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2016-present,
+ * Jaguar0625, gimre, BloodyRookie, Tech Bureau, Corp. All rights reserved.
+ *
+ * This file is part of Catapult.
+ *
+ * Catapult is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Catapult is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Catapult.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.nem.automationHelpers.common;
+
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
+import io.nem.automationHelpers.config.ConfigFileReader;
+import org.bouncycastle.util.encoders.Hex;
+import org.bson.Document;
+import org.bson.types.Binary;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Waits for transactions to be confirmed, checking all pending transactions with one query per new block.
+ * Waiters that announced before the same block are released together right after the block is stored, instead
+ * of each of them polling on its own schedule.
+ */
+public class BlockConfirmationWaiter {
+	private static final String CHAIN_STATISTIC_COLLECTION = "chainStatistic";
+	private static final String TRANSACTIONS_COLLECTION = "transactions";
+	private static final String HASH_FIELD = "meta.hash";
+	private static BlockConfirmationWaiter instance;
+	private final Map<String, List<CompletableFuture<Long>>> pendingHashes = new ConcurrentHashMap<>();
+	private final AtomicBoolean newHashes = new AtomicBoolean();
+	private final MongoCollection<Document> chainStatistic;
+	private final MongoCollection<Document> transactions;
+	private final CatapultDatabase catapultDatabase;
+	private final ConfigFileReader configFileReader;
+	private final Log logger = Log.getLogger("BlockConfirmationWaiter");
+	private long lastHeight = -1;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param configFileReader Config reader.
+	 */
+	private BlockConfirmationWaiter(final ConfigFileReader configFileReader) {
+		catapultDatabase = CatapultDatabase.getInstance(configFileReader);
+		this.configFileReader = configFileReader;
+		chainStatistic = catapultDatabase.getCollection(CHAIN_STATISTIC_COLLECTION);
+		transactions = catapultDatabase.getCollection(TRANSACTIONS_COLLECTION);
+		final Thread thread = new Thread(this::run, "block-confirmation-waiter");
+		thread.setDaemon(true);
+		thread.start();
+	}
+
+	/**
+	 * Gets the shared confirmation waiter.
+	 *
+	 * @param configFileReader Config reader.
+	 * @return Block confirmation waiter.
+	 */
+	public static synchronized BlockConfirmationWaiter getInstance(final ConfigFileReader configFileReader) {
+		if (null == instance) {
+			instance = new BlockConfirmationWaiter(configFileReader);
+		}
+		return instance;
+	}
+
+	/**
+	 * Waits for a transaction to be confirmed. Every caller gets its own future, so callers waiting on the same
+	 * hash can cancel independently.
+	 *
+	 * @param hash Transaction hash.
+	 * @return Future completed with the height of the block which includes the transaction.
+	 */
+	public CompletableFuture<Long> awaitConfirmation(final String hash) {
+		final CompletableFuture<Long> future = new CompletableFuture<>();
+		pendingHashes.compute(
+				hash.toUpperCase(),
+				(key, waiters) -> {
+					final List<CompletableFuture<Long>> hashWaiters = null == waiters ? new ArrayList<>() : waiters;
+					hashWaiters.add(future);
+					return hashWaiters;
+				});
+		newHashes.set(true);
+		synchronized (pendingHashes) {
+			pendingHashes.notifyAll();
+		}
+		return future;
+	}
+
+	/**
+	 * Stops waiting for a transaction.
+	 *
+	 * @param hash   Transaction hash.
+	 * @param future Future returned by awaitConfirmation.
+	 */
+	public void cancel(final String hash, final CompletableFuture<Long> future) {
+		future.cancel(false);
+		pendingHashes.computeIfPresent(
+				hash.toUpperCase(),
+				(key, waiters) -> {
+					waiters.remove(future);
+					return waiters.isEmpty() ? null : waiters;
+				});
+	}
+
+	private void run() {
+		while (!Thread.currentThread().isInterrupted()) {
+			try {
+				synchronized (pendingHashes) {
+					while (pendingHashes.isEmpty()) {
+						pendingHashes.wait();
+					}
+				}
+				final long height = getChainHeight();
+				BlockClock.observeHeight(height);
+				// Hashes registered since the last check can already be in an earlier block.
+				if (height > lastHeight || newHashes.getAndSet(false)) {
+					lastHeight = height;
+					checkConfirmations();
+				}
+				synchronized (pendingHashes) {
+					if (!newHashes.get()) {
+						pendingHashes.wait(getSleepTimeInMilliseconds());
+					}
+				}
+			} catch (final InterruptedException e) {
+				Thread.currentThread().interrupt();
+			} catch (final RuntimeException e) {
+				// Keep the thread alive, otherwise every later wait runs into its timeout.
+				logger.LogError("Block confirmation check failed: {}", e.toString());
+				LockSupport.parkNanos(
+						TimeUnit.MILLISECONDS.toNanos(configFileReader.getBlockPollIntervalInMilliseconds()));
+			}
+		}
+	}
+
+	private long getSleepTimeInMilliseconds() {
+		final int pollIntervalInMilliseconds = configFileReader.getBlockPollIntervalInMilliseconds();
+		final long untilNextBlock =
+				BlockClock.getMillisUntilNextBlock(configFileReader.getBlockGenerationTargetTimeInSeconds() * 1000L);
+		// Sleep through most of the block time and poll closely around the expected block.
+		return Math.max(pollIntervalInMilliseconds, untilNextBlock - 2 * pollIntervalInMilliseconds);
+	}
+
+	private long getChainHeight() {
+		final Document document =
+				chainStatistic
+						.find()
+						.projection(Projections.include("current.height"))
+						.maxTime(catapultDatabase.getQueryTimeoutInSeconds(), TimeUnit.SECONDS)
+						.first();
+		final Document current = null == document ? null : document.get("current", Document.class);
+		return null == current ? 0 : ((Number) current.get("height")).longValue();
+	}
+
+	private void checkConfirmations() {
+		final List<Binary> binaries = new ArrayList<>(pendingHashes.size());
+		pendingHashes.keySet().forEach(hash -> binaries.add(new Binary(Hex.decode(hash))));
+		if (binaries.isEmpty()) {
+			return;
+		}
+		for (final Document document :
+				transactions
+						.find(Filters.in(HASH_FIELD, binaries))
+						.projection(Projections.include(HASH_FIELD, "meta.height"))
+						.maxTime(catapultDatabase.getQueryTimeoutInSeconds(), TimeUnit.SECONDS)) {
+			final Document meta = document.get("meta", Document.class);
+			final String hash = Hex.toHexString(meta.get("hash", Binary.class).getData()).toUpperCase();
+			final List<CompletableFuture<Long>> waiters = pendingHashes.remove(hash);
+			if (null != waiters) {
+				final long height = ((Number) meta.get("height")).longValue();
+				waiters.forEach(future -> future.complete(height));
+			}
+		}
+	}
+}
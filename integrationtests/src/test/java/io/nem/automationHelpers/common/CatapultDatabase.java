@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2016-present,
+ * Jaguar0625, gimre, BloodyRookie, Tech Bureau, Corp. All rights reserved.
+ *
+ * This file is part of Catapult.
+ *
+ * Catapult is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Catapult is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Catapult.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.nem.automationHelpers.common;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoDatabase;
+import io.nem.automationHelpers.config.ConfigFileReader;
+import io.nem.core.utils.ConvertUtils;
+import io.nem.sdk.model.account.Address;
+import org.apache.commons.codec.binary.Base32;
+import org.bson.Document;
+import org.bson.types.Binary;
+
+/**
+ * Direct access to the catapult database for queries the DAOs do not expose (projections, batches).
+ */
+public class CatapultDatabase {
+	private static CatapultDatabase instance;
+	private final MongoDatabase database;
+	private final ConfigFileReader configFileReader;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param configFileReader Config reader.
+	 */
+	private CatapultDatabase(final ConfigFileReader configFileReader) {
+		final MongoClient mongoClient =
+				MongoClients.create(
+						"mongodb://" + configFileReader.getMongodbHost() + ":" + configFileReader.getMongodbPort());
+		database = mongoClient.getDatabase(configFileReader.getMongodbDatabaseName());
+		this.configFileReader = configFileReader;
+	}
+
+	/**
+	 * Gets the shared database instance.
+	 *
+	 * @param configFileReader Config reader.
+	 * @return Catapult database.
+	 */
+	public static synchronized CatapultDatabase getInstance(final ConfigFileReader configFileReader) {
+		if (null == instance) {
+			instance = new CatapultDatabase(configFileReader);
+		}
+		return instance;
+	}
+
+	/**
+	 * Gets a collection.
+	 *
+	 * @param collectionName Collection name.
+	 * @return Mongo collection.
+	 */
+	public MongoCollection<Document> getCollection(final String collectionName) {
+		return database.getCollection(collectionName);
+	}
+
+	/**
+	 * Gets the query timeout.
+	 *
+	 * @return Query timeout in seconds.
+	 */
+	public int getQueryTimeoutInSeconds() {
+		return configFileReader.getDatabaseQueryTimeoutInSeconds();
+	}
+
+	/**
+	 * Converts an address to the binary form stored in the database.
+	 *
+	 * @param address Address.
+	 * @return Binary address.
+	 */
+	public static Binary toBinary(final Address address) {
+		return new Binary(new Base32().decode(address.plain()));
+	}
+
+	/**
+	 * Converts a binary address from the database to an address.
+	 *
+	 * @param binary Binary address.
+	 * @return Address.
+	 */
+	public static Address toAddress(final Binary binary) {
+		return Address.createFromEncoded(ConvertUtils.toHex(binary.getData()));
+	}
+}
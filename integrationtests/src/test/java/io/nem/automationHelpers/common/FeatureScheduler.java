@@ -0,0 +1,246 @@
+/*
+ * Copyright (c) 2016-present,
+ * Jaguar0625, gimre, BloodyRookie, Tech Bureau, Corp. All rights reserved.
+ *
+ * This file is part of Catapult.
+ *
+ * Catapult is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Catapult is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Catapult.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.nem.automationHelpers.common;
+
+import io.nem.automationHelpers.config.ConfigFileReader;
+import io.nem.core.utils.ExceptionUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Splits the scenarios of the feature files across workers using the recorded scenario wall times.
+ * Scenarios are assigned longest first to the least loaded worker, which keeps the slowest worker close to the
+ * minimum possible run time. Each worker gets a cucumber rerun file listing its scenarios as "path:line", with the
+ * longest features first.
+ * Usage: FeatureScheduler &lt;features directory&gt; &lt;number of workers&gt; &lt;output directory&gt;
+ * [history file]
+ */
+public class FeatureScheduler {
+	private static final long DEFAULT_ESTIMATE_IN_MILLISECONDS = 60000;
+	private final List<ScheduledScenario> scenarios = new ArrayList<>();
+	private final Map<String, Long> history;
+	private final long defaultEstimateInMilliseconds;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param featuresDirectory Directory with the feature files.
+	 * @param history           Map of scenario keys and wall times in milliseconds.
+	 */
+	public FeatureScheduler(final Path featuresDirectory, final Map<String, Long> history) {
+		this.history = history;
+		// Scenarios without history are assumed to take the average time.
+		defaultEstimateInMilliseconds = history.isEmpty()
+				? DEFAULT_ESTIMATE_IN_MILLISECONDS
+				: (long) history.values().stream().mapToLong(Long::longValue).average().getAsDouble();
+		ExceptionUtils.propagateVoid(() -> {
+			try (final Stream<Path> paths = Files.walk(featuresDirectory)) {
+				paths.filter(path -> path.toString().endsWith(".feature")).sorted().forEach(this::parseFeature);
+			}
+		});
+	}
+
+	/**
+	 * Converts a name to the form used in cucumber ids. Same rule as gherkin 2, which replaces each whitespace, quote,
+	 * underscore, comma and exclamation mark on its own.
+	 *
+	 * @param name Feature or scenario name.
+	 * @return Id part.
+	 */
+	private static String toIdPart(final String name) {
+		return name.trim().replaceAll("[\\s'_,!]", "-").toLowerCase();
+	}
+
+	private void parseFeature(final Path path) {
+		final List<String> lines = ExceptionUtils.propagate(() -> Files.readAllLines(path, StandardCharsets.UTF_8));
+		String featureId = "";
+		for (int i = 0; i < lines.size(); i++) {
+			final String line = lines.get(i).trim();
+			if (line.startsWith("Feature:")) {
+				featureId = toIdPart(line.substring("Feature:".length()));
+				continue;
+			}
+			final int separator = line.indexOf(':');
+			if (separator < 0 || !line.startsWith("Scenario")) {
+				continue;
+			}
+			final String key = featureId + ";" + toIdPart(line.substring(separator + 1));
+			scenarios.add(new ScheduledScenario(path, i + 1, history.getOrDefault(key, defaultEstimateInMilliseconds)));
+		}
+	}
+
+	/**
+	 * Assigns the scenarios to workers, longest first to the least loaded worker.
+	 *
+	 * @param numberOfWorkers Number of workers.
+	 * @return Scenarios of each worker.
+	 */
+	public List<List<ScheduledScenario>> schedule(final int numberOfWorkers) {
+		final List<List<ScheduledScenario>> workers = new ArrayList<>(numberOfWorkers);
+		final long[] loads = new long[numberOfWorkers];
+		final PriorityQueue<Integer> leastLoaded =
+				new PriorityQueue<>(Comparator.<Integer>comparingLong(worker -> loads[worker]).thenComparing(worker -> worker));
+		for (int i = 0; i < numberOfWorkers; i++) {
+			workers.add(new ArrayList<>());
+			leastLoaded.add(i);
+		}
+		scenarios.stream()
+				.sorted(Comparator.comparingLong(ScheduledScenario::getEstimateInMilliseconds).reversed())
+				.forEach(scenario -> {
+					final int worker = leastLoaded.poll();
+					workers.get(worker).add(scenario);
+					loads[worker] += scenario.getEstimateInMilliseconds();
+					leastLoaded.add(worker);
+				});
+		return workers;
+	}
+
+	/**
+	 * Gets the lower bound of the run time for a number of workers.
+	 *
+	 * @param numberOfWorkers Number of workers.
+	 * @return Lower bound in milliseconds.
+	 */
+	public long getMinimumRunTimeInMilliseconds(final int numberOfWorkers) {
+		final long total = scenarios.stream().mapToLong(ScheduledScenario::getEstimateInMilliseconds).sum();
+		final long longest =
+				scenarios.stream().mapToLong(ScheduledScenario::getEstimateInMilliseconds).max().orElse(0);
+		return Math.max((total + numberOfWorkers - 1) / numberOfWorkers, longest);
+	}
+
+	/**
+	 * Formats the scenarios of a worker as a cucumber rerun file, longest features first.
+	 *
+	 * @param scenarios Scenarios of the worker.
+	 * @return Rerun file content.
+	 */
+	public static String toRerunFormat(final List<ScheduledScenario> scenarios) {
+		final Map<Path, List<ScheduledScenario>> features =
+				scenarios.stream().collect(Collectors.groupingBy(ScheduledScenario::getPath, LinkedHashMap::new, Collectors.toList()));
+		return features.entrySet().stream()
+				.sorted(Comparator.comparingLong(
+						(Map.Entry<Path, List<ScheduledScenario>> feature) -> getTotalInMilliseconds(feature.getValue()))
+						.reversed())
+				.map(feature -> feature.getKey().toString() + feature.getValue().stream()
+						.sorted(Comparator.comparingInt(ScheduledScenario::getLine))
+						.map(scenario -> ":" + scenario.getLine())
+						.collect(Collectors.joining()))
+				.collect(Collectors.joining(System.lineSeparator()));
+	}
+
+	private static long getTotalInMilliseconds(final List<ScheduledScenario> scenarios) {
+		return scenarios.stream().mapToLong(ScheduledScenario::getEstimateInMilliseconds).sum();
+	}
+
+	/**
+	 * Writes a rerun file per worker.
+	 *
+	 * @param args Features directory, number of workers, output directory and optional history file.
+	 */
+	public static void main(final String[] args) {
+		if (args.length < 3) {
+			System.out.println(
+					"Usage: FeatureScheduler <features directory> <number of workers> <output directory> [history file]");
+			return;
+		}
+		final int numberOfWorkers = Integer.parseInt(args[1]);
+		final String historyFile = args.length > 3 ? args[3] : new ConfigFileReader().getScenarioTimingHistoryFile();
+		final Map<String, Long> history =
+				historyFile.isEmpty() ? new LinkedHashMap<>() : ScenarioTimingHistory.load(Paths.get(historyFile));
+		final FeatureScheduler scheduler = new FeatureScheduler(Paths.get(args[0]), history);
+		final List<List<ScheduledScenario>> workers = scheduler.schedule(numberOfWorkers);
+		final Path outputDirectory = Paths.get(args[2]);
+		ExceptionUtils.propagateVoid(() -> Files.createDirectories(outputDirectory));
+		long makespan = 0;
+		for (int i = 0; i < workers.size(); i++) {
+			final Path rerunFile = outputDirectory.resolve("worker-" + i + ".txt");
+			final String content = toRerunFormat(workers.get(i));
+			ExceptionUtils.propagateVoid(() -> Files.write(rerunFile, content.getBytes(StandardCharsets.UTF_8)));
+			final long load = getTotalInMilliseconds(workers.get(i));
+			makespan = Math.max(makespan, load);
+			System.out.println(String.format(
+					"worker %d: %d scenarios, %d s, -Dcucumber.options=\"@%s\"",
+					i, workers.get(i).size(), load / 1000, rerunFile));
+		}
+		System.out.println(String.format(
+				"estimated run time %d s, lower bound %d s",
+				makespan / 1000, scheduler.getMinimumRunTimeInMilliseconds(numberOfWorkers) / 1000));
+	}
+
+	/**
+	 * Scenario with its estimated run time.
+	 */
+	public static class ScheduledScenario {
+		private final Path path;
+		private final int line;
+		private final long estimateInMilliseconds;
+
+		/**
+		 * Constructor.
+		 *
+		 * @param path                   Feature file.
+		 * @param line                   Line of the scenario.
+		 * @param estimateInMilliseconds Estimated run time.
+		 */
+		public ScheduledScenario(final Path path, final int line, final long estimateInMilliseconds) {
+			this.path = path;
+			this.line = line;
+			this.estimateInMilliseconds = estimateInMilliseconds;
+		}
+
+		/**
+		 * Gets the feature file.
+		 *
+		 * @return Feature file.
+		 */
+		public Path getPath() {
+			return path;
+		}
+
+		/**
+		 * Gets the line of the scenario.
+		 *
+		 * @return Line number.
+		 */
+		public int getLine() {
+			return line;
+		}
+
+		/**
+		 * Gets the estimated run time.
+		 *
+		 * @return Estimate in milliseconds.
+		 */
+		public long getEstimateInMilliseconds() {
+			return estimateInMilliseconds;
+		}
+	}
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2016-present,
+ * Jaguar0625, gimre, BloodyRookie, Tech Bureau, Corp. All rights reserved.
+ *
+ * This file is part of Catapult.
+ *
+ * Catapult is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Catapult is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Catapult.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.nem.automationHelpers.common;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Sorted latency samples with nearest rank percentiles. All the samples share one unit.
+ */
+public final class LatencyDistribution {
+	private final long[] samples;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param samples Latency samples.
+	 */
+	public LatencyDistribution(final List<Long> samples) {
+		this(samples.stream().mapToLong(Long::longValue).toArray());
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * @param samples Latency samples.
+	 */
+	public LatencyDistribution(final long[] samples) {
+		this.samples = Arrays.copyOf(samples, samples.length);
+		Arrays.sort(this.samples);
+	}
+
+	/**
+	 * Gets the number of samples.
+	 *
+	 * @return Number of samples.
+	 */
+	public int getCount() {
+		return samples.length;
+	}
+
+	/**
+	 * Gets a percentile of the samples.
+	 *
+	 * @param percentile Percentile between 0 and 100.
+	 * @return Latency in the unit of the samples, or -1 if there are no samples.
+	 */
+	public long getPercentile(final double percentile) {
+		if (0 == samples.length) {
+			return -1;
+		}
+		final int index = (int) Math.ceil(percentile / 100 * samples.length) - 1;
+		return samples[Math.max(0, Math.min(index, samples.length - 1))];
+	}
+
+	@Override
+	public String toString() {
+		return "p50=" + getPercentile(50) + " p90=" + getPercentile(90) + " p99=" + getPercentile(99)
+				+ " max=" + getPercentile(100);
+	}
+}
@@ -22,11 +22,18 @@ package io.nem.automationHelpers.common;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.util.Supplier;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * Logging
+ * Logging. Messages use "{}" placeholders and are only formatted when the level is enabled. The one and two value
+ * overloads do not allocate when the level is disabled. Output goes through the async appender configured in
+ * log4j2.xml.
  */
 public class Log {
+	private static final Map<String, Log> loggers = new ConcurrentHashMap<>();
 	private final Logger logger;
 
 	private Log(final String name) {
@@ -40,7 +47,28 @@ public class Log {
 	 * @return Instance of log.
 	 */
 	public static Log getLogger(final String name) {
-		return new Log(name);
+		return loggers.computeIfAbsent(name, Log::new);
+	}
+
+	/**
+	 * Logs information.
+	 *
+	 * @param message Message
+	 * @param value   Value.
+	 */
+	public void LogInfo(final String message, final Object value) {
+		logger.info(message, value);
+	}
+
+	/**
+	 * Logs information.
+	 *
+	 * @param message     Message
+	 * @param firstValue  First value.
+	 * @param secondValue Second value.
+	 */
+	public void LogInfo(final String message, final Object firstValue, final Object secondValue) {
+		logger.info(message, firstValue, secondValue);
 	}
 
 	/**
@@ -53,6 +81,37 @@ public class Log {
 		logger.info(message, values);
 	}
 
+	/**
+	 * Logs information. The suppliers are only called if info is enabled.
+	 *
+	 * @param message   Message
+	 * @param suppliers Value suppliers.
+	 */
+	public void LogInfo(final String message, final Supplier<?>... suppliers) {
+		logger.info(message, suppliers);
+	}
+
+	/**
+	 * Logs error.
+	 *
+	 * @param message Message
+	 * @param value   Value.
+	 */
+	public void LogError(final String message, final Object value) {
+		logger.error(message, value);
+	}
+
+	/**
+	 * Logs error.
+	 *
+	 * @param message     Message
+	 * @param firstValue  First value.
+	 * @param secondValue Second value.
+	 */
+	public void LogError(final String message, final Object firstValue, final Object secondValue) {
+		logger.error(message, firstValue, secondValue);
+	}
+
 	/**
 	 * Logs error.
 	 *
@@ -63,13 +122,32 @@ public class Log {
 		logger.error(message, values);
 	}
 
+	/**
+	 * Logs error. The suppliers are only called if error is enabled.
+	 *
+	 * @param message   Message
+	 * @param suppliers Value suppliers.
+	 */
+	public void LogError(final String message, final Supplier<?>... suppliers) {
+		logger.error(message, suppliers);
+	}
+
+	/**
+	 * Checks if info messages are logged.
+	 *
+	 * @return True if info is enabled.
+	 */
+	public boolean isInfoEnabled() {
+		return logger.isInfoEnabled();
+	}
+
 	/**
 	 * Logs the start of each scenario.
 	 *
 	 * @param name Scenario name.
 	 */
 	public void scenarioStart(final String name) {
-		LogInfo("Scenario {0} started.", name);
+		LogInfo("Scenario {} started.", name);
 	}
 
 	/**
@@ -80,9 +158,9 @@ public class Log {
 	 */
 	public void scenarioEnd(final String name, final int status) {
 		if (status == 0) {
-			LogInfo("Scenario {0} completed successfully.", name);
+			LogInfo("Scenario {} completed successfully.", name);
 		} else {
-			LogError("Scenario {0} failed.  Status = {1}.", name, status);
+			LogError("Scenario {} failed.  Status = {}.", name, status);
 		}
 	}
 
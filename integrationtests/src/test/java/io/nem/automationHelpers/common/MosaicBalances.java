@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2016-present,
+ * Jaguar0625, gimre, BloodyRookie, Tech Bureau, Corp. All rights reserved.
+ *
+ * This file is part of Catapult.
+ *
+ * Catapult is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Catapult is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Catapult.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.nem.automationHelpers.common;
+
+import io.nem.sdk.model.mosaic.Mosaic;
+import io.nem.sdk.model.mosaic.MosaicId;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Immutable mosaic balances of an account. Ids and amounts are kept in sorted primitive arrays.
+ */
+public class MosaicBalances {
+	/**
+	 * Balances of an account without mosaics.
+	 */
+	public static final MosaicBalances EMPTY = new MosaicBalances(new long[0], new long[0]);
+	private final long[] mosaicIds;
+	private final long[] amounts;
+
+	private MosaicBalances(final long[] mosaicIds, final long[] amounts) {
+		this.mosaicIds = mosaicIds;
+		this.amounts = amounts;
+	}
+
+	/**
+	 * Creates the balances from unsorted ids and amounts.
+	 *
+	 * @param mosaicIds Mosaic ids.
+	 * @param amounts   Amounts.
+	 * @return Mosaic balances.
+	 */
+	public static MosaicBalances create(final long[] mosaicIds, final long[] amounts) {
+		if (mosaicIds.length != amounts.length) {
+			throw new IllegalArgumentException("mosaicIds and amounts must have the same length");
+		}
+		final Integer[] order = new Integer[mosaicIds.length];
+		for (int i = 0; i < order.length; i++) {
+			order[i] = i;
+		}
+		Arrays.sort(order, (first, second) -> Long.compare(mosaicIds[first], mosaicIds[second]));
+		final long[] sortedIds = new long[mosaicIds.length];
+		final long[] sortedAmounts = new long[amounts.length];
+		for (int i = 0; i < order.length; i++) {
+			sortedIds[i] = mosaicIds[order[i]];
+			sortedAmounts[i] = amounts[order[i]];
+		}
+		return new MosaicBalances(sortedIds, sortedAmounts);
+	}
+
+	/**
+	 * Creates the balances from a list of mosaics.
+	 *
+	 * @param mosaics Mosaics.
+	 * @return Mosaic balances.
+	 */
+	public static MosaicBalances fromMosaics(final List<Mosaic> mosaics) {
+		final long[] mosaicIds = new long[mosaics.size()];
+		final long[] amounts = new long[mosaics.size()];
+		for (int i = 0; i < mosaics.size(); i++) {
+			mosaicIds[i] = mosaics.get(i).getId().getIdAsLong();
+			amounts[i] = mosaics.get(i).getAmount().longValue();
+		}
+		return create(mosaicIds, amounts);
+	}
+
+	/**
+	 * Gets the amount of a mosaic.
+	 *
+	 * @param mosaicId Mosaic id.
+	 * @return Amount or 0 if the mosaic is not owned.
+	 */
+	public long getAmount(final long mosaicId) {
+		final int index = Arrays.binarySearch(mosaicIds, mosaicId);
+		return index < 0 ? 0 : amounts[index];
+	}
+
+	/**
+	 * Gets the amount of a mosaic.
+	 *
+	 * @param mosaicId Mosaic id.
+	 * @return Amount or 0 if the mosaic is not owned.
+	 */
+	public long getAmount(final MosaicId mosaicId) {
+		return getAmount(mosaicId.getIdAsLong());
+	}
+
+	/**
+	 * Gets the number of mosaics.
+	 *
+	 * @return Number of mosaics.
+	 */
+	public int size() {
+		return mosaicIds.length;
+	}
+
+	/**
+	 * Gets the mosaic id at an index.
+	 *
+	 * @param index Index.
+	 * @return Mosaic id.
+	 */
+	public long getMosaicIdAt(final int index) {
+		return mosaicIds[index];
+	}
+
+	/**
+	 * Gets the amount at an index.
+	 *
+	 * @param index Index.
+	 * @return Amount.
+	 */
+	public long getAmountAt(final int index) {
+		return amounts[index];
+	}
+}
@@ -0,0 +1,239 @@
+/*
+ * Copyright (c) 2016-present,
+ * Jaguar0625, gimre, BloodyRookie, Tech Bureau, Corp. All rights reserved.
+ *
+ * This file is part of Catapult.
+ *
+ * Catapult is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Catapult is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Catapult.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.nem.automationHelpers.common;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable in memory view of a multisig subgraph keyed by public key.
+ */
+public class MultisigGraph {
+	private final Map<String, Entry> entries;
+	private final Map<String, Integer> depths;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param entries Multisig entries keyed by upper case public key.
+	 */
+	public MultisigGraph(final Map<String, Entry> entries) {
+		this.entries = Collections.unmodifiableMap(new HashMap<>(entries));
+		this.depths = new HashMap<>();
+	}
+
+	/**
+	 * Normalizes a public key to the form used as key in the graph.
+	 *
+	 * @param publicKey Public key.
+	 * @return Normalized public key.
+	 */
+	public static String toKey(final String publicKey) {
+		return publicKey.toUpperCase();
+	}
+
+	/**
+	 * Checks if an account is a multisig account.
+	 *
+	 * @param publicKey Account public key.
+	 * @return True if the account has cosignatories.
+	 */
+	public boolean isMultisig(final String publicKey) {
+		return entries.containsKey(toKey(publicKey));
+	}
+
+	/**
+	 * Gets the multisig entry of an account.
+	 *
+	 * @param publicKey Account public key.
+	 * @return Multisig entry or null if the account is not a multisig account.
+	 */
+	public Entry getEntry(final String publicKey) {
+		return entries.get(toKey(publicKey));
+	}
+
+	/**
+	 * Gets the direct cosignatories of an account.
+	 *
+	 * @param publicKey Account public key.
+	 * @return Cosignatory public keys.
+	 */
+	public List<String> getCosignatories(final String publicKey) {
+		final Entry entry = getEntry(publicKey);
+		return null == entry ? Collections.emptyList() : entry.getCosignatories();
+	}
+
+	/**
+	 * Checks if an account is a direct or indirect cosignatory of a multisig account.
+	 *
+	 * @param cosignatoryPublicKey Cosignatory public key.
+	 * @param multisigPublicKey Multisig public key.
+	 * @return True if the cosignatory can sign for the multisig account.
+	 */
+	public boolean isCosignatoryOf(final String cosignatoryPublicKey, final String multisigPublicKey) {
+		final String target = toKey(cosignatoryPublicKey);
+		final Set<String> visited = new HashSet<>();
+		final List<String> pending = new ArrayList<>(getCosignatories(multisigPublicKey));
+		while (!pending.isEmpty()) {
+			final String current = pending.remove(pending.size() - 1);
+			if (current.equals(target)) {
+				return true;
+			}
+			if (visited.add(current)) {
+				pending.addAll(getCosignatories(current));
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Gets the accounts at the bottom of the multisig tree, which are the ones that sign.
+	 *
+	 * @param publicKey Account public key.
+	 * @return Leaf public keys, or the account itself if it is not a multisig account.
+	 */
+	public List<String> getLeafCosignatories(final String publicKey) {
+		final Set<String> leaves = new LinkedHashSet<>();
+		collectLeaves(toKey(publicKey), new HashSet<>(), leaves);
+		return new ArrayList<>(leaves);
+	}
+
+	/**
+	 * Gets the number of multisig levels below an account.
+	 *
+	 * @param publicKey Account public key.
+	 * @return Depth of the multisig tree, 0 if the account is not a multisig account.
+	 */
+	public synchronized int getDepth(final String publicKey) {
+		return getDepth(toKey(publicKey), new HashSet<>());
+	}
+
+	/**
+	 * Checks if the graph contains a cycle reachable from an account.
+	 *
+	 * @param publicKey Account public key.
+	 * @return True if a cycle was found.
+	 */
+	public boolean hasCycle(final String publicKey) {
+		return hasCycle(toKey(publicKey), new HashSet<>(), new HashSet<>());
+	}
+
+	private void collectLeaves(final String key, final Set<String> visited, final Set<String> leaves) {
+		if (!visited.add(key)) {
+			return;
+		}
+		final List<String> cosignatories = getCosignatories(key);
+		if (cosignatories.isEmpty()) {
+			leaves.add(key);
+			return;
+		}
+		cosignatories.forEach(cosignatory -> collectLeaves(cosignatory, visited, leaves));
+	}
+
+	private int getDepth(final String key, final Set<String> path) {
+		final Integer cachedDepth = depths.get(key);
+		if (null != cachedDepth) {
+			return cachedDepth;
+		}
+		if (!path.add(key)) {
+			throw new IllegalStateException("Multisig cycle found at public key: " + key);
+		}
+		int depth = 0;
+		for (final String cosignatory : getCosignatories(key)) {
+			depth = Math.max(depth, getDepth(cosignatory, path) + 1);
+		}
+		path.remove(key);
+		depths.put(key, depth);
+		return depth;
+	}
+
+	private boolean hasCycle(final String key, final Set<String> path, final Set<String> done) {
+		if (done.contains(key)) {
+			return false;
+		}
+		if (!path.add(key)) {
+			return true;
+		}
+		for (final String cosignatory : getCosignatories(key)) {
+			if (hasCycle(cosignatory, path, done)) {
+				return true;
+			}
+		}
+		path.remove(key);
+		done.add(key);
+		return false;
+	}
+
+	/**
+	 * Multisig settings of a single account.
+	 */
+	public static class Entry {
+		private final int minApproval;
+		private final int minRemoval;
+		private final List<String> cosignatories;
+
+		/**
+		 * Constructor.
+		 *
+		 * @param minApproval Minimum approval.
+		 * @param minRemoval Minimum removal.
+		 * @param cosignatories Cosignatory public keys.
+		 */
+		public Entry(final int minApproval, final int minRemoval, final List<String> cosignatories) {
+			this.minApproval = minApproval;
+			this.minRemoval = minRemoval;
+			this.cosignatories = Collections.unmodifiableList(new ArrayList<>(cosignatories));
+		}
+
+		/**
+		 * Gets the minimum approval.
+		 *
+		 * @return Minimum approval.
+		 */
+		public int getMinApproval() {
+			return minApproval;
+		}
+
+		/**
+		 * Gets the minimum removal.
+		 *
+		 * @return Minimum removal.
+		 */
+		public int getMinRemoval() {
+			return minRemoval;
+		}
+
+		/**
+		 * Gets the cosignatories.
+		 *
+		 * @return Cosignatory public keys.
+		 */
+		public List<String> getCosignatories() {
+			return cosignatories;
+		}
+	}
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2016-present,
+ * Jaguar0625, gimre, BloodyRookie, Tech Bureau, Corp. All rights reserved.
+ *
+ * This file is part of Catapult.
+ *
+ * Catapult is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Catapult is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Catapult.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.nem.automationHelpers.common;
+
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/**
+ * Per thread random sources. Names and test values come from a splittable generator, secrets from a non-blocking
+ * seeded generator, so threads never share or wait on a random source.
+ */
+public final class RandomSource {
+	private static final SplittableRandom rootRandom = new SplittableRandom(new SecureRandom().nextLong());
+	private static final ThreadLocal<SplittableRandom> valueRandom = ThreadLocal.withInitial(RandomSource::splitRoot);
+	private static final ThreadLocal<SecureRandom> secretRandom =
+			ThreadLocal.withInitial(RandomSource::createSecretRandom);
+	private static final int MAX_ISSUED_NAMES = 100000;
+	// Only the most recent names are remembered, so the set stays bounded on long runs.
+	private static final Set<String> issuedNames = Collections.synchronizedSet(
+			Collections.newSetFromMap(new LinkedHashMap<String, Boolean>() {
+				@Override
+				protected boolean removeEldestEntry(final Map.Entry<String, Boolean> eldest) {
+					return size() > MAX_ISSUED_NAMES;
+				}
+			}));
+
+	private RandomSource() {
+	}
+
+	private static synchronized SplittableRandom splitRoot() {
+		return rootRandom.split();
+	}
+
+	private static SecureRandom createSecretRandom() {
+		try {
+			// Reads /dev/urandom, so it never blocks waiting for entropy on CI hosts.
+			return SecureRandom.getInstance("NativePRNGNonBlocking");
+		} catch (final NoSuchAlgorithmException e) {
+			return new SecureRandom();
+		}
+	}
+
+	/**
+	 * Gets a random boolean value.
+	 *
+	 * @return Random boolean value.
+	 */
+	public static boolean nextBoolean() {
+		return valueRandom.get().nextBoolean();
+	}
+
+	/**
+	 * Gets a random integer in a given range.
+	 *
+	 * @param start Start integer.
+	 * @param end   End integer(Inclusive).
+	 * @return Integer in the given range.
+	 */
+	public static int nextInt(final int start, final int end) {
+		return valueRandom.get().nextInt((end - start) + 1) + start;
+	}
+
+	/**
+	 * Gets random bytes suitable for secrets.
+	 *
+	 * @param count Number of bytes.
+	 * @return Random bytes.
+	 */
+	public static byte[] nextSecretBytes(final int count) {
+		final byte[] bytes = new byte[count];
+		secretRandom.get().nextBytes(bytes);
+		return bytes;
+	}
+
+	/**
+	 * Gets a name made of a prefix and a random number which was not among the recently handed out names.
+	 *
+	 * @param prefix Name prefix.
+	 * @param bound  Upper bound of the random number(Inclusive).
+	 * @return Unique name.
+	 */
+	public static String nextUniqueName(final String prefix, final int bound) {
+		while (true) {
+			final String name = prefix + nextInt(0, bound);
+			if (issuedNames.add(name)) {
+				return name;
+			}
+		}
+	}
+}
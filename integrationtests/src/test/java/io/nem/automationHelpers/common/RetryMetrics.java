@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2016-present,
+ * Jaguar0625, gimre, BloodyRookie, Tech Bureau, Corp. All rights reserved.
+ *
+ * This file is part of Catapult.
+ *
+ * Catapult is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Catapult is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Catapult.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.nem.automationHelpers.common;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Retry counters per operation.
+ */
+public final class RetryMetrics {
+	private static final Map<String, RetryMetrics> metrics = new ConcurrentHashMap<>();
+	private final LongAdder runs = new LongAdder();
+	private final LongAdder attempts = new LongAdder();
+	private final LongAdder successes = new LongAdder();
+	private final LongAdder failures = new LongAdder();
+	private final LongAdder waitTimeInMilliseconds = new LongAdder();
+
+	private RetryMetrics() {
+	}
+
+	/**
+	 * Gets the metrics of an operation.
+	 *
+	 * @param operation Operation name.
+	 * @return Retry metrics.
+	 */
+	public static RetryMetrics getMetrics(final String operation) {
+		return metrics.computeIfAbsent(operation, name -> new RetryMetrics());
+	}
+
+	/**
+	 * Copies the counters of every operation.
+	 *
+	 * @return Metrics by operation name.
+	 */
+	public static Map<String, RetryMetrics> getSnapshot() {
+		final Map<String, RetryMetrics> snapshot = new TreeMap<>();
+		metrics.forEach((operation, retryMetrics) -> snapshot.put(operation, retryMetrics.since(null)));
+		return snapshot;
+	}
+
+	/**
+	 * Gets the counters added since an earlier copy of the same operation.
+	 *
+	 * @param earlier Earlier copy or null to copy all the counters.
+	 * @return Retry metrics.
+	 */
+	public RetryMetrics since(final RetryMetrics earlier) {
+		final RetryMetrics difference = new RetryMetrics();
+		difference.runs.add(getRuns() - (null == earlier ? 0 : earlier.getRuns()));
+		difference.attempts.add(getAttempts() - (null == earlier ? 0 : earlier.getAttempts()));
+		difference.successes.add(getSuccesses() - (null == earlier ? 0 : earlier.getSuccesses()));
+		difference.failures.add(getFailures() - (null == earlier ? 0 : earlier.getFailures()));
+		difference.waitTimeInMilliseconds.add(
+				getWaitTimeInMilliseconds() - (null == earlier ? 0 : earlier.getWaitTimeInMilliseconds()));
+		return difference;
+	}
+
+	void recordAttempt() {
+		attempts.increment();
+	}
+
+	void recordWait(final long waitInMilliseconds) {
+		waitTimeInMilliseconds.add(waitInMilliseconds);
+	}
+
+	void recordOutcome(final boolean success) {
+		runs.increment();
+		(success ? successes : failures).increment();
+	}
+
+	/**
+	 * Gets the number of runs.
+	 *
+	 * @return Number of runs.
+	 */
+	public long getRuns() {
+		return runs.sum();
+	}
+
+	/**
+	 * Gets the number of attempts over all runs.
+	 *
+	 * @return Number of attempts.
+	 */
+	public long getAttempts() {
+		return attempts.sum();
+	}
+
+	/**
+	 * Gets the number of successful runs.
+	 *
+	 * @return Number of successes.
+	 */
+	public long getSuccesses() {
+		return successes.sum();
+	}
+
+	/**
+	 * Gets the number of failed runs.
+	 *
+	 * @return Number of failures.
+	 */
+	public long getFailures() {
+		return failures.sum();
+	}
+
+	/**
+	 * Gets the time spent waiting between attempts.
+	 *
+	 * @return Wait time in milliseconds.
+	 */
+	public long getWaitTimeInMilliseconds() {
+		return waitTimeInMilliseconds.sum();
+	}
+
+	@Override
+	public String toString() {
+		return "runs=" + getRuns() + " attempts=" + getAttempts() + " successes=" + getSuccesses()
+				+ " failures=" + getFailures() + " waitMs=" + getWaitTimeInMilliseconds();
+	}
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2016-present,
+ * Jaguar0625, gimre, BloodyRookie, Tech Bureau, Corp. All rights reserved.
+ *
+ * This file is part of Catapult.
+ *
+ * Catapult is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Catapult is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Catapult.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.nem.automationHelpers.common;
+
+import io.nem.core.utils.ExceptionUtils;
+
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Retry policy with exponential backoff, jitter, a time budget and optional block time aware delays.
+ * Block time aware policies shorten the delay so the next attempt happens just after the expected block.
+ */
+public class RetryPolicy {
+	private static final long BLOCK_MARGIN_IN_MILLISECONDS = 200;
+	private final String operation;
+	private final int maxAttempts;
+	private final long initialDelayInMilliseconds;
+	private final long maxDelayInMilliseconds;
+	private final double multiplier;
+	private final double jitter;
+	private final long budgetInMilliseconds;
+	private final long blockTimeInMilliseconds;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param operation                  Operation name used for metrics.
+	 * @param maxAttempts                Maximum number of attempts.
+	 * @param initialDelayInMilliseconds Delay after the first attempt.
+	 * @param maxDelayInMilliseconds     Maximum delay between attempts.
+	 * @param multiplier                 Delay multiplier per attempt.
+	 * @param jitter                     Random delay variation between 0 and 1.
+	 * @param budgetInMilliseconds       Maximum total time or 0 for no limit.
+	 * @param blockTimeInMilliseconds    Target block time or 0 to ignore blocks.
+	 */
+	public RetryPolicy(
+			final String operation,
+			final int maxAttempts,
+			final long initialDelayInMilliseconds,
+			final long maxDelayInMilliseconds,
+			final double multiplier,
+			final double jitter,
+			final long budgetInMilliseconds,
+			final long blockTimeInMilliseconds) {
+		this.operation = operation;
+		this.maxAttempts = maxAttempts;
+		this.initialDelayInMilliseconds = initialDelayInMilliseconds;
+		this.maxDelayInMilliseconds = maxDelayInMilliseconds;
+		this.multiplier = multiplier;
+		this.jitter = jitter;
+		this.budgetInMilliseconds = budgetInMilliseconds;
+		this.blockTimeInMilliseconds = blockTimeInMilliseconds;
+	}
+
+	/**
+	 * Gets the operation name.
+	 *
+	 * @return Operation name.
+	 */
+	public String getOperation() {
+		return operation;
+	}
+
+	/**
+	 * Gets the time budget.
+	 *
+	 * @return Maximum total time in milliseconds or 0 for no limit.
+	 */
+	public long getBudgetInMilliseconds() {
+		return budgetInMilliseconds;
+	}
+
+	/**
+	 * Gets the metrics of the operation.
+	 *
+	 * @return Retry metrics.
+	 */
+	public RetryMetrics getMetrics() {
+		return RetryMetrics.getMetrics(operation);
+	}
+
+	/**
+	 * Runs an operation until it returns without an exception, the attempts or the budget are used up, or the
+	 * operation cancels the retry.
+	 *
+	 * @param command Operation to run.
+	 * @param <T>     Result type.
+	 * @return Result of the operation.
+	 */
+	public <T> T run(final Function<Attempt, T> command) {
+		return run(command, null);
+	}
+
+	/**
+	 * Runs an operation like {@link #run(Function)}. Block time aware policies query the chain height before computing
+	 * a delay if the block clock has not been fed recently.
+	 *
+	 * @param command     Operation to run.
+	 * @param chainHeight Gets the chain height or null to use the block clock as is.
+	 * @param <T>         Result type.
+	 * @return Result of the operation.
+	 */
+	public <T> T run(final Function<Attempt, T> command, final LongSupplier chainHeight) {
+		final RetryMetrics metrics = getMetrics();
+		final long startTime = System.currentTimeMillis();
+		final Attempt attempt = new Attempt();
+		while (true) {
+			attempt.number++;
+			metrics.recordAttempt();
+			try {
+				final T result = command.apply(attempt);
+				metrics.recordOutcome(true);
+				return result;
+			}
+			catch (final RuntimeException e) {
+				if (blockTimeInMilliseconds > 0 && null != chainHeight) {
+					refreshBlockClock(chainHeight);
+				}
+				final long delay = getDelay(attempt.number, System.currentTimeMillis() - startTime);
+				if (attempt.cancelled || attempt.number >= maxAttempts || delay < 0) {
+					metrics.recordOutcome(false);
+					throw e;
+				}
+				metrics.recordWait(delay);
+				ExceptionUtils.propagateVoid(() -> Thread.sleep(delay));
+			}
+		}
+	}
+
+	private static void refreshBlockClock(final LongSupplier chainHeight) {
+		if (!BlockClock.isStale(BLOCK_MARGIN_IN_MILLISECONDS)) {
+			return;
+		}
+		try {
+			BlockClock.observeHeight(chainHeight.getAsLong());
+		}
+		catch (final RuntimeException e) {
+			// A failed height query only leaves the estimate as it is.
+		}
+	}
+
+	/**
+	 * Gets the delay before the next attempt.
+	 *
+	 * @param attemptNumber Number of the failed attempt.
+	 * @param elapsed       Time spent so far in milliseconds.
+	 * @return Delay in milliseconds or -1 if the budget is used up.
+	 */
+	long getDelay(final int attemptNumber, final long elapsed) {
+		final double backoff = initialDelayInMilliseconds * Math.pow(multiplier, attemptNumber - 1);
+		final double jitterFactor = 1 - jitter + 2 * jitter * RandomSource.nextInt(0, 1000) / 1000.0;
+		long delay = (long) (Math.min(maxDelayInMilliseconds, backoff) * jitterFactor);
+		if (blockTimeInMilliseconds > 0) {
+			final long untilNextBlock = BlockClock.getMillisUntilNextBlock(blockTimeInMilliseconds);
+			if (untilNextBlock >= 0) {
+				delay = Math.min(delay, untilNextBlock + BLOCK_MARGIN_IN_MILLISECONDS);
+			}
+		}
+		if (budgetInMilliseconds > 0) {
+			final long remaining = budgetInMilliseconds - elapsed;
+			if (remaining <= 0) {
+				return -1;
+			}
+			delay = Math.min(delay, remaining);
+		}
+		return delay;
+	}
+
+	/**
+	 * State of the current attempt.
+	 */
+	public static class Attempt {
+		private int number;
+		private boolean cancelled;
+
+		/**
+		 * Gets the attempt number starting at 1.
+		 *
+		 * @return Attempt number.
+		 */
+		public int getNumber() {
+			return number;
+		}
+
+		/**
+		 * Stops retrying after the current attempt.
+		 */
+		public void cancelRetry() {
+			cancelled = true;
+		}
+	}
+}
@@ -20,8 +20,10 @@
 
 package io.nem.automationHelpers.common;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.UnaryOperator;
 
 /**
  * The test scenario context
@@ -33,7 +35,7 @@ public class ScenarioContext {
 	 * Constructor
 	 */
 	public ScenarioContext() {
-		scenarioContext = new HashMap<>();
+		scenarioContext = Collections.synchronizedMap(new HashMap<>());
 	}
 
 	/**
@@ -46,6 +48,18 @@ public class ScenarioContext {
 		scenarioContext.put(key, value);
 	}
 
+	/**
+	 * Update a test context atomically
+	 *
+	 * @param key    The key for the object
+	 * @param update Function which gets the current object or null and returns the new one
+	 * @param <T>    The type of the object
+	 * @return The new object
+	 */
+	public <T> T updateContext(final String key, final UnaryOperator<T> update) {
+		return (T) scenarioContext.compute(key, (k, value) -> update.apply((T) value));
+	}
+
 	/**
 	 * Get the test context
 	 *
@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2016-present,
+ * Jaguar0625, gimre, BloodyRookie, Tech Bureau, Corp. All rights reserved.
+ *
+ * This file is part of Catapult.
+ *
+ * Catapult is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Catapult is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Catapult.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.nem.automationHelpers.common;
+
+import io.nem.core.utils.ExceptionUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Wall time history of scenarios, keyed by "feature-name;scenario-name" as in the cucumber scenario id.
+ * Times of a run are summed per key (all examples of an outline count towards the outline) and merged into the
+ * history file at shutdown as an exponentially weighted average, under a file lock so parallel workers can share it.
+ */
+public class ScenarioTimingHistory {
+	private static final double SMOOTHING = 0.5;
+	private static final Map<String, ScenarioTimingHistory> instances = new HashMap<>();
+	private static final ScenarioTimingHistory DISABLED = new ScenarioTimingHistory(null);
+	private final Path file;
+	private final Map<String, Long> runTimesInMilliseconds = new ConcurrentHashMap<>();
+
+	/**
+	 * Constructor.
+	 *
+	 * @param file History file or null if disabled.
+	 */
+	private ScenarioTimingHistory(final Path file) {
+		this.file = file;
+	}
+
+	/**
+	 * Gets the history for a file. The history is saved when the JVM exits.
+	 *
+	 * @param fileName History file name, empty to disable.
+	 * @return Scenario timing history.
+	 */
+	public static synchronized ScenarioTimingHistory getInstance(final String fileName) {
+		if (fileName.isEmpty()) {
+			return DISABLED;
+		}
+		return instances.computeIfAbsent(
+				fileName,
+				name -> {
+					final ScenarioTimingHistory history = new ScenarioTimingHistory(Paths.get(name));
+					Runtime.getRuntime().addShutdownHook(new Thread(history::save, "scenario-timing-history"));
+					return history;
+				});
+	}
+
+	/**
+	 * Gets the history key of a scenario.
+	 *
+	 * @param scenarioId Cucumber scenario id.
+	 * @return History key.
+	 */
+	public static String toKey(final String scenarioId) {
+		final String[] parts = scenarioId.split(";");
+		return parts.length < 2 ? scenarioId : parts[0] + ";" + parts[1];
+	}
+
+	/**
+	 * Records the wall time of a scenario.
+	 *
+	 * @param scenarioId         Cucumber scenario id.
+	 * @param timeInMilliseconds Wall time.
+	 */
+	public void record(final String scenarioId, final long timeInMilliseconds) {
+		if (null != file) {
+			runTimesInMilliseconds.merge(toKey(scenarioId), timeInMilliseconds, Long::sum);
+		}
+	}
+
+	/**
+	 * Loads the saved history.
+	 *
+	 * @param file History file.
+	 * @return Map of keys and average wall times in milliseconds.
+	 */
+	public static Map<String, Long> load(final Path file) {
+		final Map<String, Long> history = new HashMap<>();
+		if (!Files.exists(file)) {
+			return history;
+		}
+		final Properties properties = new Properties();
+		ExceptionUtils.propagateVoid(() -> {
+			try (final InputStream input = Files.newInputStream(file)) {
+				properties.load(input);
+			}
+		});
+		properties.stringPropertyNames().forEach(key -> history.put(key, Long.parseLong(properties.getProperty(key))));
+		return history;
+	}
+
+	/**
+	 * Merges the times of this run into the history file.
+	 */
+	public void save() {
+		if (null == file || runTimesInMilliseconds.isEmpty()) {
+			return;
+		}
+		ExceptionUtils.propagateVoid(() -> {
+			if (null != file.getParent()) {
+				Files.createDirectories(file.getParent());
+			}
+			try (final FileChannel channel =
+						 FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+				 final FileLock lock = channel.lock()) {
+				final ByteBuffer content = ByteBuffer.allocate((int) channel.size());
+				while (content.hasRemaining() && channel.read(content) >= 0) {
+					// Read the whole file.
+				}
+				final Properties properties = new Properties();
+				properties.load(new ByteArrayInputStream(content.array()));
+				runTimesInMilliseconds.forEach((key, time) -> {
+					final String previous = properties.getProperty(key);
+					final long average = null == previous
+							? time
+							: Math.round(SMOOTHING * time + (1 - SMOOTHING) * Long.parseLong(previous));
+					properties.setProperty(key, Long.toString(average));
+				});
+				final ByteArrayOutputStream output = new ByteArrayOutputStream();
+				properties.store(output, "Scenario wall times in milliseconds");
+				channel.truncate(0);
+				channel.write(ByteBuffer.wrap(output.toByteArray()), 0);
+			}
+		});
+	}
+}
@@ -0,0 +1,236 @@
+/*
+ * Copyright (c) 2016-present,
+ * Jaguar0625, gimre, BloodyRookie, Tech Bureau, Corp. All rights reserved.
+ *
+ * This file is part of Catapult.
+ *
+ * Catapult is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Catapult is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Catapult.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.nem.automationHelpers.common;
+
+import io.nem.core.utils.ExceptionUtils;
+import io.nem.sdk.model.transaction.SignedTransaction;
+import io.nem.sdk.model.transaction.TransactionType;
+import org.bouncycastle.util.encoders.Hex;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Memory mapped file of signed transactions.
+ * Layout: magic, record count, then per record the transaction type, 32 byte hash, payload size and payload.
+ * The file is mapped in windows, so a corpus is not limited to the 2GB of a single mapped buffer.
+ */
+public class SignedTransactionCorpus implements Iterable<SignedTransaction>, AutoCloseable {
+	private static final int MAGIC = 0x53545843;
+	private static final int HEADER_SIZE = 8;
+	private static final int HASH_SIZE = 32;
+	private static final int RECORD_HEADER_SIZE = 4 + HASH_SIZE + 4;
+	private static final int WINDOW_SIZE = 64 * 1024 * 1024;
+	private final FileChannel channel;
+	private final long fileSize;
+	private final int count;
+
+	private SignedTransactionCorpus(final FileChannel channel) throws IOException {
+		this.channel = channel;
+		this.fileSize = channel.size();
+		final ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+		if (fileSize < HEADER_SIZE || MAGIC != header.getInt(0)) {
+			throw new IllegalArgumentException("File is not a signed transaction corpus.");
+		}
+		this.count = header.getInt(4);
+	}
+
+	/**
+	 * Writes signed transactions to a corpus file.
+	 *
+	 * @param file               Corpus file.
+	 * @param signedTransactions Signed transactions.
+	 */
+	public static void write(final Path file, final List<SignedTransaction> signedTransactions) {
+		try (final Writer writer = create(file)) {
+			signedTransactions.forEach(writer::append);
+		}
+	}
+
+	/**
+	 * Creates a corpus file to which signed transactions are appended one at a time.
+	 *
+	 * @param file Corpus file.
+	 * @return Corpus writer.
+	 */
+	public static Writer create(final Path file) {
+		return ExceptionUtils.propagate(
+				() -> new Writer(
+						FileChannel.open(
+								file,
+								StandardOpenOption.CREATE,
+								StandardOpenOption.TRUNCATE_EXISTING,
+								StandardOpenOption.READ,
+								StandardOpenOption.WRITE)));
+	}
+
+	/**
+	 * Opens a corpus file.
+	 *
+	 * @param file Corpus file.
+	 * @return Signed transaction corpus.
+	 */
+	public static SignedTransactionCorpus open(final Path file) {
+		return ExceptionUtils.propagate(() -> new SignedTransactionCorpus(FileChannel.open(file, StandardOpenOption.READ)));
+	}
+
+	/**
+	 * Gets the number of signed transactions.
+	 *
+	 * @return Number of signed transactions.
+	 */
+	public int size() {
+		return count;
+	}
+
+	/**
+	 * Closes the corpus file.
+	 */
+	@Override
+	public void close() {
+		ExceptionUtils.propagateVoid(channel::close);
+	}
+
+	/**
+	 * Gets an iterator over the signed transactions in file order.
+	 *
+	 * @return Signed transaction iterator.
+	 */
+	@Override
+	public Iterator<SignedTransaction> iterator() {
+		return new Iterator<SignedTransaction>() {
+			private int index = 0;
+			private long position = HEADER_SIZE;
+			private MappedByteBuffer window;
+			private long windowStart;
+
+			@Override
+			public boolean hasNext() {
+				return index < count;
+			}
+
+			@Override
+			public SignedTransaction next() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				final ByteBuffer recordHeader = read(position, RECORD_HEADER_SIZE);
+				final TransactionType type = TransactionType.rawValueOf(recordHeader.getInt());
+				final byte[] hash = new byte[HASH_SIZE];
+				recordHeader.get(hash);
+				final byte[] payload = new byte[recordHeader.getInt()];
+				read(position + RECORD_HEADER_SIZE, payload.length).get(payload);
+				position += RECORD_HEADER_SIZE + payload.length;
+				index++;
+				return new SignedTransaction(
+						Hex.toHexString(payload).toUpperCase(), Hex.toHexString(hash).toUpperCase(), type);
+			}
+
+			private ByteBuffer read(final long start, final int length) {
+				if (null == window || start + length > windowStart + window.capacity()) {
+					final long windowSize = Math.min(Math.max(WINDOW_SIZE, length), fileSize - start);
+					window = ExceptionUtils.propagate(
+							() -> channel.map(FileChannel.MapMode.READ_ONLY, start, windowSize));
+					windowStart = start;
+				}
+				final ByteBuffer buffer = window.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+				buffer.position((int) (start - windowStart));
+				return buffer;
+			}
+		};
+	}
+
+	/**
+	 * Appends signed transactions to a corpus file through a moving mapped window, so records are streamed to disk
+	 * instead of being collected in memory first.
+	 */
+	public static final class Writer implements AutoCloseable {
+		private final FileChannel channel;
+		private MappedByteBuffer window;
+		private long windowStart;
+		private long position = HEADER_SIZE;
+		private int count;
+
+		private Writer(final FileChannel channel) throws IOException {
+			this.channel = channel;
+			this.window = channel.map(FileChannel.MapMode.READ_WRITE, 0, WINDOW_SIZE);
+			this.window.order(ByteOrder.LITTLE_ENDIAN);
+		}
+
+		/**
+		 * Appends a signed transaction.
+		 *
+		 * @param signedTransaction Signed transaction.
+		 */
+		public void append(final SignedTransaction signedTransaction) {
+			final byte[] payload = Hex.decode(signedTransaction.getPayload());
+			final int recordSize = RECORD_HEADER_SIZE + payload.length;
+			if (position + recordSize > windowStart + window.capacity()) {
+				window.force();
+				final long start = position;
+				window = ExceptionUtils.propagate(
+						() -> channel.map(FileChannel.MapMode.READ_WRITE, start, Math.max(WINDOW_SIZE, recordSize)));
+				window.order(ByteOrder.LITTLE_ENDIAN);
+				windowStart = start;
+			}
+			window.position((int) (position - windowStart));
+			window.putInt(signedTransaction.getType().getValue());
+			window.put(Hex.decode(signedTransaction.getHash()));
+			window.putInt(payload.length);
+			window.put(payload);
+			position += recordSize;
+			count++;
+		}
+
+		/**
+		 * Writes the header and closes the file.
+		 */
+		@Override
+		public void close() {
+			ExceptionUtils.propagateVoid(() -> {
+				try {
+					window.force();
+					final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+					header.putInt(MAGIC).putInt(count).flip();
+					channel.write(header, 0);
+					try {
+						// Drops the unused end of the last window. Some platforms refuse this while the window is
+						// still mapped, readers stop at the record count anyway.
+						channel.truncate(position);
+					}
+					catch (final IOException e) {
+						Log.getLogger("SignedTransactionCorpus").LogInfo("Corpus file not truncated: {}", e.getMessage());
+					}
+				}
+				finally {
+					channel.close();
+				}
+			});
+		}
+	}
+}
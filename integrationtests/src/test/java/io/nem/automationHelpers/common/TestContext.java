@@ -37,9 +37,9 @@ import io.nem.sdk.model.transaction.Transaction;
 import io.nem.sdk.model.transaction.TransactionType;
 
 import java.math.BigInteger;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /** Test context */
 public class TestContext {
@@ -84,7 +84,8 @@ public class TestContext {
             configFileReader.getApiPort(),
             configFileReader.getSocketTimeoutInMilliseconds());
     catapultContext = new CatapultContext(apiNodeContext, dataAccessContext);
-    transactions = new ArrayList<>();
+    // Bonded flows record their lock transactions from worker threads.
+    transactions = new CopyOnWriteArrayList<>();
     final String privateString = configFileReader.getUserPrivateKey();
     defaultSignerAccount = Account.createFromPrivateKey(privateString, getNetworkType());
     harvesterPublicAccount =
@@ -128,6 +129,24 @@ public class TestContext {
     return catapultContext;
   }
 
+  /**
+   * Gets catapult database.
+   *
+   * @return Catapult database.
+   */
+  public CatapultDatabase getCatapultDatabase() {
+    return CatapultDatabase.getInstance(configFileReader);
+  }
+
+  /**
+   * Gets the transaction event log.
+   *
+   * @return Transaction event log.
+   */
+  public TransactionEventLog getTransactionEventLog() {
+    return TransactionEventLog.getInstance(configFileReader.getTransactionEventLogFile());
+  }
+
   /**
    * Gets transactations.
    *
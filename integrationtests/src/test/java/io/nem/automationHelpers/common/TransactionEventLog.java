@@ -0,0 +1,238 @@
+/*
+ * Copyright (c) 2016-present,
+ * Jaguar0625, gimre, BloodyRookie, Tech Bureau, Corp. All rights reserved.
+ *
+ * This file is part of Catapult.
+ *
+ * Catapult is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Catapult is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Catapult.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.nem.automationHelpers.common;
+
+import io.nem.core.utils.ExceptionUtils;
+import io.nem.sdk.model.transaction.SignedTransaction;
+import io.nem.sdk.model.transaction.TransactionType;
+import org.bouncycastle.util.encoders.Hex;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Append only binary log of transaction events in a memory mapped file.
+ * Every record is RECORD_SIZE bytes: event, padding, transaction type, hash, signer, timestamp in microseconds
+ * since the epoch and the status text padded with zeros. An END record is written when the JVM shuts down, records
+ * which were reserved but never written stay zero and are skipped by the reader.
+ */
+public class TransactionEventLog {
+	/**
+	 * Size of a record in bytes.
+	 */
+	public static final int RECORD_SIZE = 144;
+	/**
+	 * Size of the status field in bytes.
+	 */
+	public static final int STATUS_SIZE = 64;
+	private static final long SEGMENT_SIZE = RECORD_SIZE * 65536L;
+	private static final int SIGNER_OFFSET_IN_PAYLOAD = 4 + 64;
+	private static final TransactionEventLog DISABLED = new TransactionEventLog(null);
+	private static volatile TransactionEventLog instance;
+	private final FileChannel channel;
+	private volatile boolean closed;
+	private final long startTimeInMicros = TimeUnit.MILLISECONDS.toMicros(System.currentTimeMillis());
+	private final long startNanoTime = System.nanoTime();
+	private final AtomicLong position = new AtomicLong();
+	private final Map<Long, MappedByteBuffer> segments = new ConcurrentHashMap<>();
+
+	/**
+	 * Event types.
+	 */
+	public enum EventType {
+		ANNOUNCED(1),
+		STATUS(2),
+		CONFIRMED(3),
+		END(4);
+
+		private final byte value;
+
+		EventType(final int value) {
+			this.value = (byte) value;
+		}
+
+		/**
+		 * Gets the raw value.
+		 *
+		 * @return Raw value.
+		 */
+		public byte getValue() {
+			return value;
+		}
+
+		/**
+		 * Gets the event type for a raw value.
+		 *
+		 * @param value Raw value.
+		 * @return Event type.
+		 */
+		public static EventType rawValueOf(final byte value) {
+			for (final EventType eventType : values()) {
+				if (eventType.value == value) {
+					return eventType;
+				}
+			}
+			throw new IllegalArgumentException(value + " is not a valid event type");
+		}
+	}
+
+	private TransactionEventLog(final FileChannel channel) {
+		this.channel = channel;
+	}
+
+	/**
+	 * Gets the shared event log. The log is disabled if no file is configured.
+	 *
+	 * @param fileName Event log file name or empty to disable.
+	 * @return Transaction event log.
+	 */
+	public static TransactionEventLog getInstance(final String fileName) {
+		if (fileName.isEmpty()) {
+			return DISABLED;
+		}
+		// Called on every announce, status and confirmation, so only the first call synchronizes.
+		final TransactionEventLog currentInstance = instance;
+		return null == currentInstance ? createInstance(fileName) : currentInstance;
+	}
+
+	private static synchronized TransactionEventLog createInstance(final String fileName) {
+		if (null == instance) {
+			final Path file = Paths.get(fileName);
+			final TransactionEventLog eventLog = new TransactionEventLog(ExceptionUtils.propagate(() -> FileChannel.open(
+					file,
+					StandardOpenOption.CREATE,
+					StandardOpenOption.TRUNCATE_EXISTING,
+					StandardOpenOption.READ,
+					StandardOpenOption.WRITE)));
+			Runtime.getRuntime().addShutdownHook(new Thread(eventLog::close, "transaction-event-log-close"));
+			instance = eventLog;
+		}
+		return instance;
+	}
+
+	/**
+	 * Checks if events are recorded.
+	 *
+	 * @return True if the log is enabled.
+	 */
+	public boolean isEnabled() {
+		return null != channel;
+	}
+
+	/**
+	 * Records an announce.
+	 *
+	 * @param signedTransaction Signed transaction.
+	 */
+	public void announced(final SignedTransaction signedTransaction) {
+		if (isEnabled()) {
+			final String payload = signedTransaction.getPayload();
+			final String signer =
+					payload.substring(SIGNER_OFFSET_IN_PAYLOAD * 2, (SIGNER_OFFSET_IN_PAYLOAD + 32) * 2);
+			append(EventType.ANNOUNCED, signedTransaction.getType(), signedTransaction.getHash(), signer, "");
+		}
+	}
+
+	/**
+	 * Records a status read from the node.
+	 *
+	 * @param hash   Transaction hash.
+	 * @param status Status text.
+	 */
+	public void status(final String hash, final String status) {
+		if (isEnabled()) {
+			append(EventType.STATUS, null, hash, null, status);
+		}
+	}
+
+	/**
+	 * Records that a transaction was found on the node.
+	 *
+	 * @param signedTransaction Signed transaction.
+	 * @param statusGroup       Status group the transaction was found in (e.g. confirmed or partial).
+	 */
+	public void confirmed(final SignedTransaction signedTransaction, final String statusGroup) {
+		if (isEnabled()) {
+			append(EventType.CONFIRMED, signedTransaction.getType(), signedTransaction.getHash(), null, statusGroup);
+		}
+	}
+
+	/**
+	 * Writes the END record and flushes the log. Later events are dropped.
+	 */
+	public void close() {
+		if (!isEnabled() || closed) {
+			return;
+		}
+		append(EventType.END, null, "", null, "");
+		closed = true;
+		segments.values().forEach(MappedByteBuffer::force);
+	}
+
+	private void append(
+			final EventType eventType,
+			final TransactionType transactionType,
+			final String hash,
+			final String signer,
+			final String status) {
+		if (closed) {
+			return;
+		}
+		final long recordPosition = position.getAndAdd(RECORD_SIZE);
+		final long segmentIndex = recordPosition / SEGMENT_SIZE;
+		final ByteBuffer record = getSegment(segmentIndex).duplicate().order(ByteOrder.LITTLE_ENDIAN);
+		record.position((int) (recordPosition % SEGMENT_SIZE));
+		final long timestamp =
+				startTimeInMicros + TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startNanoTime);
+		record.put(eventType.getValue());
+		record.put((byte) 0);
+		record.putShort(null == transactionType ? 0 : (short) transactionType.getValue());
+		putFixed(record, Hex.decode(hash), 32);
+		putFixed(record, null == signer ? new byte[0] : Hex.decode(signer), 32);
+		record.putLong(timestamp);
+		putFixed(record, status.getBytes(StandardCharsets.US_ASCII), STATUS_SIZE);
+	}
+
+	private static void putFixed(final ByteBuffer buffer, final byte[] bytes, final int size) {
+		final int length = Math.min(bytes.length, size);
+		buffer.put(bytes, 0, length);
+		for (int i = length; i < size; i++) {
+			buffer.put((byte) 0);
+		}
+	}
+
+	private MappedByteBuffer getSegment(final long segmentIndex) {
+		return segments.computeIfAbsent(
+				segmentIndex,
+				index -> ExceptionUtils.propagate(
+						() -> channel.map(FileChannel.MapMode.READ_WRITE, index * SEGMENT_SIZE, SEGMENT_SIZE)));
+	}
+}
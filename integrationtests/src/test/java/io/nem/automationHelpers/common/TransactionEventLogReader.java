@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2016-present,
+ * Jaguar0625, gimre, BloodyRookie, Tech Bureau, Corp. All rights reserved.
+ *
+ * This file is part of Catapult.
+ *
+ * Catapult is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Catapult is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Catapult.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.nem.automationHelpers.common;
+
+import io.nem.core.utils.ExceptionUtils;
+import org.bouncycastle.util.encoders.Hex;
+
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Offline reader for the transaction event log. Reports throughput per second, announce to confirmation latency
+ * and a breakdown of failure statuses.
+ * Usage: TransactionEventLogReader &lt;event log file&gt;
+ */
+public class TransactionEventLogReader {
+	private static final long MICROS_PER_SECOND = 1000000L;
+	private final Map<Long, int[]> eventsPerSecond = new TreeMap<>();
+	private final Map<String, Long> announceTimes = new HashMap<>();
+	private final Map<String, String> failures = new HashMap<>();
+	private long[] latencies = new long[1024];
+	private int latencyCount = 0;
+	private LatencyDistribution latencyDistribution;
+
+	/**
+	 * Reads an event log file.
+	 *
+	 * @param file Event log file.
+	 */
+	public TransactionEventLogReader(final Path file) {
+		ExceptionUtils.propagateVoid(() -> {
+			try (final FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+				final long recordsPerMap = Integer.MAX_VALUE / TransactionEventLog.RECORD_SIZE;
+				for (long offset = 0; offset < channel.size(); offset += recordsPerMap * TransactionEventLog.RECORD_SIZE) {
+					final long size = Math.min(recordsPerMap * TransactionEventLog.RECORD_SIZE, channel.size() - offset);
+					final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, offset, size);
+					buffer.order(ByteOrder.LITTLE_ENDIAN);
+					if (!readRecords(buffer)) {
+						break;
+					}
+				}
+			}
+		});
+		latencyDistribution = new LatencyDistribution(Arrays.copyOf(latencies, latencyCount));
+	}
+
+	private boolean readRecords(final MappedByteBuffer buffer) {
+		final byte[] hash = new byte[32];
+		final byte[] status = new byte[TransactionEventLog.STATUS_SIZE];
+		for (int position = 0; position + TransactionEventLog.RECORD_SIZE <= buffer.limit();
+			 position += TransactionEventLog.RECORD_SIZE) {
+			final byte event = buffer.get(position);
+			// Records reserved by a writer which never finished stay zero.
+			if (0 == event) {
+				continue;
+			}
+			final TransactionEventLog.EventType eventType = TransactionEventLog.EventType.rawValueOf(event);
+			if (TransactionEventLog.EventType.END == eventType) {
+				return false;
+			}
+			buffer.position(position + 4);
+			buffer.get(hash);
+			final long timestamp = buffer.getLong(position + 4 + 32 + 32);
+			buffer.position(position + 4 + 32 + 32 + 8);
+			buffer.get(status);
+			addRecord(eventType, Hex.toHexString(hash), timestamp, toString(status));
+		}
+		return true;
+	}
+
+	private static String toString(final byte[] bytes) {
+		int length = 0;
+		while (length < bytes.length && 0 != bytes[length]) {
+			length++;
+		}
+		return new String(bytes, 0, length, StandardCharsets.US_ASCII);
+	}
+
+	private void addRecord(
+			final TransactionEventLog.EventType eventType, final String hash, final long timestamp, final String status) {
+		final int[] counts = eventsPerSecond.computeIfAbsent(timestamp / MICROS_PER_SECOND, second -> new int[3]);
+		switch (eventType) {
+			case ANNOUNCED:
+				counts[0]++;
+				announceTimes.put(hash, timestamp);
+				break;
+			case STATUS:
+				counts[1]++;
+				if (!status.equalsIgnoreCase("Success")) {
+					failures.put(hash, status);
+				}
+				break;
+			case CONFIRMED:
+				// Bonded transactions are also recorded when they show in the pt cache.
+				if (!status.equalsIgnoreCase("confirmed")) {
+					break;
+				}
+				counts[2]++;
+				failures.remove(hash);
+				final Long announceTime = announceTimes.get(hash);
+				if (null != announceTime) {
+					if (latencyCount == latencies.length) {
+						latencies = Arrays.copyOf(latencies, latencyCount * 2);
+					}
+					latencies[latencyCount++] = timestamp - announceTime;
+				}
+				break;
+		}
+	}
+
+	/**
+	 * Gets the number of announced, status and confirmed events for each second since the epoch.
+	 *
+	 * @return Event counts per second.
+	 */
+	public Map<Long, int[]> getEventsPerSecond() {
+		return eventsPerSecond;
+	}
+
+	/**
+	 * Gets the announce to confirmation latencies.
+	 *
+	 * @return Latencies in microseconds.
+	 */
+	public LatencyDistribution getLatencies() {
+		return latencyDistribution;
+	}
+
+	/**
+	 * Gets the number of failed transactions per final status.
+	 *
+	 * @return Failure counts by status.
+	 */
+	public Map<String, Integer> getFailureBreakdown() {
+		final Map<String, Integer> breakdown = new TreeMap<>();
+		failures.values().forEach(status -> breakdown.merge(status, 1, Integer::sum));
+		return breakdown;
+	}
+
+	/**
+	 * Creates a text report.
+	 *
+	 * @return Report.
+	 */
+	public String createReport() {
+		final StringBuilder report = new StringBuilder();
+		report.append("second,announced,status,confirmed\n");
+		eventsPerSecond.forEach((second, counts) ->
+				report.append(second).append(',').append(counts[0]).append(',').append(counts[1]).append(',')
+						.append(counts[2]).append('\n'));
+		report.append("\nlatency (ms) for ").append(latencyDistribution.getCount()).append(" confirmed transactions\n");
+		if (0 < latencyDistribution.getCount()) {
+			for (final double percentile : new double[]{50, 90, 99, 100}) {
+				report.append("p").append((int) percentile).append(": ")
+						.append(latencyDistribution.getPercentile(percentile) / 1000.0).append('\n');
+			}
+		}
+		report.append("\nfailures\n");
+		getFailureBreakdown().forEach((status, count) -> report.append(status).append(": ").append(count).append('\n'));
+		return report.toString();
+	}
+
+	/**
+	 * Prints the report of an event log file.
+	 *
+	 * @param args Event log file.
+	 */
+	public static void main(final String[] args) {
+		if (1 != args.length) {
+			System.err.println("Usage: TransactionEventLogReader <event log file>");
+			System.exit(1);
+		}
+		System.out.print(new TransactionEventLogReader(Paths.get(args[0])).createReport());
+	}
+}
@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2016-present,
+ * Jaguar0625, gimre, BloodyRookie, Tech Bureau, Corp. All rights reserved.
+ *
+ * This file is part of Catapult.
+ *
+ * Catapult is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Catapult is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Catapult.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.nem.automationHelpers.common;
+
+import com.mongodb.MongoException;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import io.nem.automationHelpers.config.ConfigFileReader;
+import org.bouncycastle.util.encoders.Hex;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.bson.types.Binary;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Watches the transaction status collection and completes waiters as soon as a status is written for their hash.
+ * The server only stores statuses of rejected transactions, so a written status means the transaction failed.
+ * Uses a change stream when the database supports it and otherwise polls all pending hashes with one query.
+ */
+public class TransactionStatusStream {
+	private static final String TRANSACTION_STATUSES_COLLECTION = "transactionStatuses";
+	private static final String HASH_FIELD = "status.hash";
+	private static TransactionStatusStream instance;
+	private final Map<String, List<CompletableFuture<String>>> pendingHashes = new ConcurrentHashMap<>();
+	private final MongoCollection<Document> collection;
+	private final CatapultDatabase catapultDatabase;
+	private final ConfigFileReader configFileReader;
+	private final Log logger = Log.getLogger("TransactionStatusStream");
+	private volatile boolean watching;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param configFileReader Config reader.
+	 */
+	private TransactionStatusStream(final ConfigFileReader configFileReader) {
+		catapultDatabase = CatapultDatabase.getInstance(configFileReader);
+		this.configFileReader = configFileReader;
+		collection = catapultDatabase.getCollection(TRANSACTION_STATUSES_COLLECTION);
+		final Thread thread = new Thread(this::run, "transaction-status-stream");
+		thread.setDaemon(true);
+		thread.start();
+	}
+
+	/**
+	 * Gets the shared status stream.
+	 *
+	 * @param configFileReader Config reader.
+	 * @return Transaction status stream.
+	 */
+	public static synchronized TransactionStatusStream getInstance(final ConfigFileReader configFileReader) {
+		if (null == instance) {
+			instance = new TransactionStatusStream(configFileReader);
+		}
+		return instance;
+	}
+
+	/**
+	 * Waits for a status to be written for a transaction. Every caller gets its own future, so callers waiting on the
+	 * same hash can cancel independently.
+	 *
+	 * @param hash Transaction hash.
+	 * @return Future completed with the hash once a status exists.
+	 */
+	public CompletableFuture<String> awaitStatus(final String hash) {
+		final String key = hash.toUpperCase();
+		final CompletableFuture<String> future = new CompletableFuture<>();
+		pendingHashes.compute(
+				key,
+				(k, waiters) -> {
+					final List<CompletableFuture<String>> hashWaiters = null == waiters ? new ArrayList<>() : waiters;
+					hashWaiters.add(future);
+					return hashWaiters;
+				});
+		if (watching) {
+			// The status could have been written before the change stream saw the waiter.
+			poll(Collections.singletonList(key));
+		} else {
+			synchronized (pendingHashes) {
+				pendingHashes.notifyAll();
+			}
+		}
+		return future;
+	}
+
+	/**
+	 * Stops waiting for a transaction.
+	 *
+	 * @param hash   Transaction hash.
+	 * @param future Future returned by awaitStatus.
+	 */
+	public void cancel(final String hash, final CompletableFuture<String> future) {
+		future.cancel(false);
+		pendingHashes.computeIfPresent(
+				hash.toUpperCase(),
+				(key, waiters) -> {
+					waiters.remove(future);
+					return waiters.isEmpty() ? null : waiters;
+				});
+	}
+
+	private void run() {
+		try {
+			watch();
+		} catch (final MongoException e) {
+			watching = false;
+			logger.LogInfo("Change stream is not available, polling transaction statuses: {}", e.getMessage());
+		}
+		while (!Thread.currentThread().isInterrupted()) {
+			try {
+				waitForPendingHashes();
+				poll(new ArrayList<>(pendingHashes.keySet()));
+				Thread.sleep(configFileReader.getTransactionStatusPollIntervalInMilliseconds());
+			} catch (final InterruptedException e) {
+				Thread.currentThread().interrupt();
+			} catch (final MongoException e) {
+				logger.LogError("Transaction status poll failed: {}", e.getMessage());
+			}
+		}
+	}
+
+	private void watch() {
+		final List<Bson> pipeline = Collections.singletonList(Aggregates.match(Filters.eq("operationType", "insert")));
+		try (final MongoCursor<ChangeStreamDocument<Document>> cursor = collection.watch(pipeline).iterator()) {
+			watching = true;
+			poll(new ArrayList<>(pendingHashes.keySet()));
+			while (cursor.hasNext()) {
+				final Document document = cursor.next().getFullDocument();
+				if (null != document) {
+					complete(document);
+				}
+			}
+		}
+	}
+
+	private void waitForPendingHashes() throws InterruptedException {
+		synchronized (pendingHashes) {
+			while (pendingHashes.isEmpty()) {
+				pendingHashes.wait();
+			}
+		}
+	}
+
+	private void poll(final List<String> hashes) {
+		if (hashes.isEmpty()) {
+			return;
+		}
+		final List<Binary> binaries = new ArrayList<>(hashes.size());
+		hashes.forEach(hash -> binaries.add(new Binary(Hex.decode(hash))));
+		for (final Document document :
+				collection
+						.find(Filters.in(HASH_FIELD, binaries))
+						.projection(Projections.include(HASH_FIELD))
+						.maxTime(catapultDatabase.getQueryTimeoutInSeconds(), TimeUnit.SECONDS)) {
+			complete(document);
+		}
+	}
+
+	private void complete(final Document document) {
+		final Document status = document.get("status", Document.class);
+		final Binary hash = null == status ? null : status.get("hash", Binary.class);
+		if (null == hash) {
+			return;
+		}
+		final String key = Hex.toHexString(hash.getData()).toUpperCase();
+		final List<CompletableFuture<String>> waiters = pendingHashes.remove(key);
+		if (null != waiters) {
+			waiters.forEach(future -> future.complete(key));
+		}
+	}
+}
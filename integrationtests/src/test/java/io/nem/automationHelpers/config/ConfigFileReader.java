@@ -20,53 +20,145 @@
 
 package io.nem.automationHelpers.config;
 
+import io.nem.automationHelpers.common.Log;
+import io.nem.automationHelpers.common.RetryPolicy;
 import io.nem.sdk.model.blockchain.NetworkType;
 
-import java.io.BufferedReader;
-import java.io.FileNotFoundException;
-import java.io.FileReader;
 import java.io.IOException;
+import java.io.InputStream;
 import java.math.BigInteger;
+import java.net.URL;
+import java.nio.file.FileSystems;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 /**
  * Config reader for the automation framework.
+ * The config is parsed once into an immutable typed snapshot which all readers share. The default file is overlaid
+ * with the profile file "config-{profile}.properties" when the "automation.profile" system property or the
+ * AUTOMATION_PROFILE environment variable is set (e.g. load). Any value can then be overridden with an environment
+ * variable named AUTOMATION_ followed by the key in upper snake case (e.g. AUTOMATION_API_HOST).
+ * If configReloadIntervalInSeconds is greater than zero, the config files on the test classpath are watched and the
+ * snapshot is replaced when they change. Tuning values are read on each use and pick up a reload; the node and
+ * database connections and the account keys are set up once and need a restart.
  */
 public class ConfigFileReader {
-	/**
-	 * List of key-pair vaules.
-	 */
-	private final Properties properties;
 	/**
 	 * The config file.
 	 */
-	private final String propertyFile = "configs/config-default.properties";
+	private static final String propertyFile = "configs/config-default.properties";
+	private static final String profileFileFormat = "configs/config-%s.properties";
+	private static final Log logger = Log.getLogger("ConfigFileReader");
+	private static volatile ConfigSnapshot snapshot;
 
 	/**
 	 * Constructor.
 	 */
 	public ConfigFileReader() {
-		final BufferedReader reader;
-		try {
-			final Path resourcePath =
-					Paths.get(
-							Thread.currentThread().getContextClassLoader().getResource(propertyFile).getPath());
-			reader = new BufferedReader(new FileReader(resourcePath.toFile().getAbsolutePath()));
-			properties = new Properties();
-			try {
-				properties.load(reader);
-				reader.close();
-			}
-			catch (final IOException e) {
-				e.printStackTrace();
+		getSnapshot();
+	}
+
+	private static ConfigSnapshot getSnapshot() {
+		ConfigSnapshot currentSnapshot = snapshot;
+		if (null == currentSnapshot) {
+			synchronized (ConfigFileReader.class) {
+				if (null == snapshot) {
+					snapshot = new ConfigSnapshot(loadProperties());
+					startReloadThread(snapshot.configReloadIntervalInSeconds);
+				}
+				currentSnapshot = snapshot;
 			}
 		}
-		catch (final FileNotFoundException e) {
-			e.printStackTrace();
+		return currentSnapshot;
+	}
+
+	private static String getProfile() {
+		final String profile = System.getProperty("automation.profile", System.getenv("AUTOMATION_PROFILE"));
+		return null == profile || profile.isEmpty() ? null : profile;
+	}
+
+	private static Properties loadProperties() {
+		final Properties properties = new Properties();
+		if (!loadResource(propertyFile, properties)) {
 			throw new RuntimeException(propertyFile + " file not found");
 		}
+		final String profile = getProfile();
+		if (null != profile && !loadResource(String.format(profileFileFormat, profile), properties)) {
+			throw new RuntimeException(String.format(profileFileFormat, profile) + " file not found");
+		}
+		for (final String key : properties.stringPropertyNames()) {
+			final String value = System.getenv(toEnvironmentName(key));
+			if (null != value) {
+				properties.setProperty(key, value);
+			}
+		}
+		return properties;
+	}
+
+	private static boolean loadResource(final String resourceName, final Properties properties) {
+		try (final InputStream inputStream =
+					 Thread.currentThread().getContextClassLoader().getResourceAsStream(resourceName)) {
+			if (null == inputStream) {
+				return false;
+			}
+			properties.load(inputStream);
+			return true;
+		}
+		catch (final IOException e) {
+			throw new RuntimeException("Failed to read " + resourceName, e);
+		}
+	}
+
+	private static String toEnvironmentName(final String key) {
+		return "AUTOMATION_" + key.replaceAll("([a-z0-9])([A-Z])", "$1_$2").replace('.', '_').toUpperCase();
+	}
+
+	private static void startReloadThread(final int intervalInSeconds) {
+		final URL resource = Thread.currentThread().getContextClassLoader().getResource(propertyFile);
+		if (intervalInSeconds <= 0 || null == resource || !"file".equals(resource.getProtocol())) {
+			return;
+		}
+		final Path directory = Paths.get(resource.getPath()).getParent();
+		final Thread reloadThread = new Thread(() -> watchConfig(directory, intervalInSeconds), "config-reload");
+		reloadThread.setDaemon(true);
+		reloadThread.start();
+	}
+
+	private static void watchConfig(final Path directory, final int intervalInSeconds) {
+		try (final WatchService watchService = FileSystems.getDefault().newWatchService()) {
+			directory.register(watchService, StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_CREATE);
+			while (!Thread.currentThread().isInterrupted()) {
+				final WatchKey watchKey = watchService.take();
+				boolean changed = false;
+				for (final WatchEvent<?> event : watchKey.pollEvents()) {
+					changed |= event.context().toString().endsWith(".properties");
+				}
+				watchKey.reset();
+				if (changed) {
+					Thread.sleep(intervalInSeconds * 1000L);
+					try {
+						snapshot = new ConfigSnapshot(loadProperties());
+					}
+					catch (final RuntimeException e) {
+						logger.LogError("Config reload failed, keeping the previous config: {}", e.getMessage());
+					}
+				}
+			}
+		}
+		catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		catch (final IOException e) {
+			logger.LogException(e);
+		}
 	}
 
 	/**
@@ -75,7 +167,7 @@ public class ConfigFileReader {
 	 * @return Api host name/address.
 	 */
 	public String getApiHost() {
-		return getPropertyValue("apiHost");
+		return getSnapshot().apiHost;
 	}
 
 	/**
@@ -84,7 +176,7 @@ public class ConfigFileReader {
 	 * @return Api host port.
 	 */
 	public int getApiPort() {
-		return Integer.parseInt(getPropertyValue("apiPort"));
+		return getSnapshot().apiPort;
 	}
 
 	/**
@@ -93,7 +185,7 @@ public class ConfigFileReader {
 	 * @return Api host public key.
 	 */
 	public String getApiServerPublicKey() {
-		return getPropertyValue("apiServerPublicKey").toUpperCase();
+		return getSnapshot().apiServerPublicKey;
 	}
 
 	/**
@@ -102,7 +194,7 @@ public class ConfigFileReader {
 	 * @return Automation private key.
 	 */
 	public String getAutomationPrivateKey() {
-		return getPropertyValue("automationPrivateKey").toUpperCase();
+		return getSnapshot().automationPrivateKey;
 	}
 
 	/**
@@ -111,7 +203,7 @@ public class ConfigFileReader {
 	 * @return Test user private key.
 	 */
 	public String getUserPrivateKey() {
-		return getPropertyValue("userPrivateKey").toUpperCase();
+		return getSnapshot().userPrivateKey;
 	}
 
 	/**
@@ -120,7 +212,7 @@ public class ConfigFileReader {
 	 * @return Mongo database host name.
 	 */
 	public String getMongodbHost() {
-		return getPropertyValue("mongodbHost");
+		return getSnapshot().mongodbHost;
 	}
 
 	/**
@@ -129,7 +221,16 @@ public class ConfigFileReader {
 	 * @return Mongo database port.
 	 */
 	public int getMongodbPort() {
-		return Integer.parseInt(getPropertyValue("mongodbPort"));
+		return getSnapshot().mongodbPort;
+	}
+
+	/**
+	 * Gets the mongo database name.
+	 *
+	 * @return Mongo database name.
+	 */
+	public String getMongodbDatabaseName() {
+		return getSnapshot().mongodbDatabaseName;
 	}
 
 	/**
@@ -138,7 +239,7 @@ public class ConfigFileReader {
 	 * @return Network Type.
 	 */
 	public NetworkType getNetworkType() {
-		return NetworkType.valueOf(getPropertyValue("networkType"));
+		return getSnapshot().networkType.get();
 	}
 
 	/**
@@ -147,7 +248,7 @@ public class ConfigFileReader {
 	 * @return Currency id.
 	 */
 	public BigInteger getCatCurrencyId() {
-		return new BigInteger(getPropertyValue("cat.currency"), 16);
+		return getSnapshot().catCurrencyId.get();
 	}
 
 	/**
@@ -156,7 +257,7 @@ public class ConfigFileReader {
 	 * @return Max fee.
 	 */
 	public BigInteger getMaxFee() {
-		return new BigInteger(getPropertyValue("maxFee"));
+		return getSnapshot().maxFee;
 	}
 
 	/**
@@ -165,7 +266,7 @@ public class ConfigFileReader {
 	 * @return Socket timeout in millisecond.
 	 */
 	public int getSocketTimeoutInMilliseconds() {
-		return Integer.parseInt(getPropertyValue("socketTimeoutInMilliseconds"));
+		return getSnapshot().socketTimeoutInMilliseconds;
 	}
 
 	/**
@@ -174,7 +275,7 @@ public class ConfigFileReader {
 	 * @return Database query timeout in seconds.
 	 */
 	public int getDatabaseQueryTimeoutInSeconds() {
-		return Integer.parseInt(getPropertyValue("databaseQueryTimeoutInSeconds"));
+		return getSnapshot().databaseQueryTimeoutInSeconds;
 	}
 
 	/**
@@ -183,7 +284,7 @@ public class ConfigFileReader {
 	 * @return Generation hash.
 	 */
 	public String getGenerationHash() {
-		return getPropertyValue("generationHash");
+		return getSnapshot().generationHash.get();
 	}
 
 	/**
@@ -192,7 +293,7 @@ public class ConfigFileReader {
 	 * @return Namespace grace period in blocks.
 	 */
 	public int getNamespaceGracePeriodInBlocks() {
-		return Integer.parseInt(getPropertyValue("namespaceGracePeriodInBlocks"));
+		return getSnapshot().namespaceGracePeriodInBlocks;
 	}
 
 	/**
@@ -201,7 +302,7 @@ public class ConfigFileReader {
 	 * @return Public key.
 	 */
 	public String getHarvesterPublicKey() {
-		return getPropertyValue("harvesterPublicKey");
+		return getSnapshot().harvesterPublicKey;
 	}
 
 	/**
@@ -210,21 +311,316 @@ public class ConfigFileReader {
 	 * @return Default dynamic fee multiplier.
 	 */
 	public int getDefaultDynamicFeeMultiplier() {
-		return Integer.parseInt(getPropertyValue("defaultDynamicFeeMultiplier"));
+		return getSnapshot().defaultDynamicFeeMultiplier;
 	}
 
+	/**
+	 * Gets the maximum number of account restriction values per transaction.
+	 *
+	 * @return Maximum account restriction values.
+	 */
+	public int getMaxAccountRestrictionValues() {
+		return getSnapshot().maxAccountRestrictionValues;
+	}
+
+	/**
+	 * Gets the number of pre-generated accounts to keep ready.
+	 *
+	 * @return Account reservoir high water mark.
+	 */
+	public int getAccountReservoirHighWaterMark() {
+		return getSnapshot().accountReservoirHighWaterMark;
+	}
+
+	/**
+	 * Gets the transaction event log file.
+	 *
+	 * @return Event log file name, empty if disabled.
+	 */
+	public String getTransactionEventLogFile() {
+		return getSnapshot().transactionEventLogFile;
+	}
 
 	/**
-	 * Gets a property value from the config file.
+	 * Gets the target block generation time.
 	 *
-	 * @param propertyName Property name.
-	 * @return Property value.
+	 * @return Block generation time in seconds.
 	 */
-	private String getPropertyValue(String propertyName) {
-		String propertyValue = properties.getProperty(propertyName);
-		if (propertyValue != null) {
-			return propertyValue;
+	public int getBlockGenerationTargetTimeInSeconds() {
+		return getSnapshot().blockGenerationTargetTimeInSeconds;
+	}
+
+	/**
+	 * Gets the poll interval of the transaction status stream.
+	 *
+	 * @return Poll interval in milliseconds.
+	 */
+	public int getTransactionStatusPollIntervalInMilliseconds() {
+		return getSnapshot().transactionStatusPollIntervalInMilliseconds;
+	}
+
+	/**
+	 * Gets the scenario timing history file.
+	 *
+	 * @return History file name, empty if disabled.
+	 */
+	public String getScenarioTimingHistoryFile() {
+		return getSnapshot().scenarioTimingHistoryFile;
+	}
+
+	/**
+	 * Gets the poll interval used around the expected block time.
+	 *
+	 * @return Poll interval in milliseconds.
+	 */
+	public int getBlockPollIntervalInMilliseconds() {
+		return getSnapshot().blockPollIntervalInMilliseconds;
+	}
+
+	/**
+	 * Gets the number of blocks to wait for a confirmation on the block aligned waiter.
+	 *
+	 * @return Number of blocks, 0 if block aligned waiting is disabled.
+	 */
+	public int getBlockAlignedWaitInBlocks() {
+		return getSnapshot().blockAlignedWaitInBlocks;
+	}
+
+	/**
+	 * Gets the number of namespaces the namespace pool registers at once.
+	 *
+	 * @return Batch size.
+	 */
+	public int getNamespacePoolBatchSize() {
+		return getSnapshot().namespacePoolBatchSize;
+	}
+
+	/**
+	 * Gets the duration of the pool namespaces.
+	 *
+	 * @return Duration in blocks.
+	 */
+	public int getNamespacePoolDurationInBlocks() {
+		return getSnapshot().namespacePoolDurationInBlocks;
+	}
+
+	/**
+	 * Gets the number of blocks a pool namespace must have left to be leased.
+	 *
+	 * @return Minimum remaining blocks.
+	 */
+	public int getNamespacePoolMinimumRemainingBlocks() {
+		return getSnapshot().namespacePoolMinimumRemainingBlocks;
+	}
+
+	/**
+	 * Gets the number of mosaics minted when a mosaic pool is empty.
+	 *
+	 * @return Batch size.
+	 */
+	public int getMosaicPoolBatchSize() {
+		return getSnapshot().mosaicPoolBatchSize;
+	}
+
+	/**
+	 * Gets the number of threads which run async setup operations.
+	 *
+	 * @return Number of threads.
+	 */
+	public int getAsyncSetupThreadCount() {
+		return getSnapshot().asyncSetupThreadCount;
+	}
+
+	/**
+	 * Gets the maximum number of inner transactions in an aggregate transaction.
+	 *
+	 * @return Maximum number of inner transactions.
+	 */
+	public int getMaxTransactionsPerAggregate() {
+		return getSnapshot().maxTransactionsPerAggregate;
+	}
+
+	/**
+	 * Gets the interval between two scans of the partial transaction cache by the cosigner service.
+	 *
+	 * @return Poll interval in milliseconds.
+	 */
+	public int getCosignerPollIntervalInMilliseconds() {
+		return getSnapshot().cosignerPollIntervalInMilliseconds;
+	}
+
+	/**
+	 * Gets the maximum message size of a transfer transaction.
+	 *
+	 * @return Maximum message size in bytes.
+	 */
+	public int getMaxTransferMessageSize() {
+		return getSnapshot().maxTransferMessageSize;
+	}
+
+	/**
+	 * Gets the maximum number of mosaics in a transfer transaction.
+	 *
+	 * @return Maximum number of mosaics.
+	 */
+	public int getMaxTransferMosaics() {
+		return getSnapshot().maxTransferMosaics;
+	}
+
+	/**
+	 * Gets the retry policy of an operation. Settings are read from "retry.{operation}.{setting}" and fall back to
+	 * "retry.default.{setting}".
+	 *
+	 * @param operation Operation name.
+	 * @return Retry policy.
+	 */
+	public RetryPolicy getRetryPolicy(final String operation) {
+		return getSnapshot().getRetryPolicy(operation);
+	}
+
+	/**
+	 * Immutable parsed config values.
+	 */
+	private static class ConfigSnapshot {
+		private final String apiHost;
+		private final int apiPort;
+		private final String apiServerPublicKey;
+		private final String automationPrivateKey;
+		private final String userPrivateKey;
+		private final String mongodbHost;
+		private final int mongodbPort;
+		private final String mongodbDatabaseName;
+		private final OptionalValue<NetworkType> networkType;
+		private final OptionalValue<BigInteger> catCurrencyId;
+		private final BigInteger maxFee;
+		private final int socketTimeoutInMilliseconds;
+		private final int databaseQueryTimeoutInSeconds;
+		private final OptionalValue<String> generationHash;
+		private final int namespaceGracePeriodInBlocks;
+		private final String harvesterPublicKey;
+		private final int defaultDynamicFeeMultiplier;
+		private final int maxAccountRestrictionValues;
+		private final int accountReservoirHighWaterMark;
+		private final int configReloadIntervalInSeconds;
+		private final String transactionEventLogFile;
+		private final int blockGenerationTargetTimeInSeconds;
+		private final int transactionStatusPollIntervalInMilliseconds;
+		private final String scenarioTimingHistoryFile;
+		private final int blockPollIntervalInMilliseconds;
+		private final int blockAlignedWaitInBlocks;
+		private final int namespacePoolBatchSize;
+		private final int namespacePoolDurationInBlocks;
+		private final int namespacePoolMinimumRemainingBlocks;
+		private final int mosaicPoolBatchSize;
+		private final int asyncSetupThreadCount;
+		private final int maxTransactionsPerAggregate;
+		private final int cosignerPollIntervalInMilliseconds;
+		private final int maxTransferMessageSize;
+		private final int maxTransferMosaics;
+		private final Properties properties;
+		private final Map<String, RetryPolicy> retryPolicies = new ConcurrentHashMap<>();
+
+		ConfigSnapshot(final Properties properties) {
+			apiHost = getPropertyValue(properties, "apiHost");
+			apiPort = getIntValue(properties, "apiPort");
+			apiServerPublicKey = getPropertyValue(properties, "apiServerPublicKey").toUpperCase();
+			automationPrivateKey = getPropertyValue(properties, "automationPrivateKey").toUpperCase();
+			userPrivateKey = getPropertyValue(properties, "userPrivateKey").toUpperCase();
+			mongodbHost = getPropertyValue(properties, "mongodbHost");
+			mongodbPort = getIntValue(properties, "mongodbPort");
+			mongodbDatabaseName = getPropertyValue(properties, "mongodbDatabaseName");
+			networkType = new OptionalValue<>(properties, "networkType", NetworkType::valueOf);
+			catCurrencyId = new OptionalValue<>(properties, "cat.currency", value -> new BigInteger(value, 16));
+			maxFee = new BigInteger(getPropertyValue(properties, "maxFee"));
+			socketTimeoutInMilliseconds = getIntValue(properties, "socketTimeoutInMilliseconds");
+			databaseQueryTimeoutInSeconds = getIntValue(properties, "databaseQueryTimeoutInSeconds");
+			generationHash = new OptionalValue<>(properties, "generationHash", Function.identity());
+			namespaceGracePeriodInBlocks = getIntValue(properties, "namespaceGracePeriodInBlocks");
+			harvesterPublicKey = getPropertyValue(properties, "harvesterPublicKey");
+			defaultDynamicFeeMultiplier = getIntValue(properties, "defaultDynamicFeeMultiplier");
+			maxAccountRestrictionValues = getIntValue(properties, "maxAccountRestrictionValues");
+			accountReservoirHighWaterMark = getIntValue(properties, "accountReservoirHighWaterMark");
+			configReloadIntervalInSeconds = getIntValue(properties, "configReloadIntervalInSeconds");
+			transactionEventLogFile = getPropertyValue(properties, "transactionEventLogFile");
+			blockGenerationTargetTimeInSeconds = getIntValue(properties, "blockGenerationTargetTimeInSeconds");
+			transactionStatusPollIntervalInMilliseconds =
+					getIntValue(properties, "transactionStatusPollIntervalInMilliseconds");
+			scenarioTimingHistoryFile = getPropertyValue(properties, "scenarioTimingHistoryFile");
+			blockPollIntervalInMilliseconds = getIntValue(properties, "blockPollIntervalInMilliseconds");
+			blockAlignedWaitInBlocks = getIntValue(properties, "blockAlignedWaitInBlocks");
+			namespacePoolBatchSize = getIntValue(properties, "namespacePoolBatchSize");
+			namespacePoolDurationInBlocks = getIntValue(properties, "namespacePoolDurationInBlocks");
+			namespacePoolMinimumRemainingBlocks = getIntValue(properties, "namespacePoolMinimumRemainingBlocks");
+			mosaicPoolBatchSize = getIntValue(properties, "mosaicPoolBatchSize");
+			asyncSetupThreadCount = getIntValue(properties, "asyncSetupThreadCount");
+			maxTransactionsPerAggregate = getIntValue(properties, "maxTransactionsPerAggregate");
+			cosignerPollIntervalInMilliseconds = getIntValue(properties, "cosignerPollIntervalInMilliseconds");
+			maxTransferMessageSize = getIntValue(properties, "maxTransferMessageSize");
+			maxTransferMosaics = getIntValue(properties, "maxTransferMosaics");
+			this.properties = properties;
+		}
+
+		RetryPolicy getRetryPolicy(final String operation) {
+			return retryPolicies.computeIfAbsent(operation, this::createRetryPolicy);
+		}
+
+		private RetryPolicy createRetryPolicy(final String operation) {
+			final Function<String, String> setting = name -> {
+				final String value = properties.getProperty("retry." + operation + "." + name);
+				return null == value ? getPropertyValue(properties, "retry.default." + name) : value.trim();
+			};
+			final boolean blockTimeAware = Boolean.parseBoolean(setting.apply("blockTimeAware"));
+			return new RetryPolicy(
+					operation,
+					Integer.parseInt(setting.apply("maxAttempts")),
+					Long.parseLong(setting.apply("initialDelayInMilliseconds")),
+					Long.parseLong(setting.apply("maxDelayInMilliseconds")),
+					Double.parseDouble(setting.apply("multiplier")),
+					Double.parseDouble(setting.apply("jitter")),
+					Long.parseLong(setting.apply("budgetInMilliseconds")),
+					blockTimeAware ? blockGenerationTargetTimeInSeconds * 1000L : 0);
+		}
+
+		private static int getIntValue(final Properties properties, final String propertyName) {
+			return Integer.parseInt(getPropertyValue(properties, propertyName));
+		}
+
+		/**
+		 * Gets a property value from the config file.
+		 *
+		 * @param properties   Properties.
+		 * @param propertyName Property name.
+		 * @return Property value.
+		 */
+		private static String getPropertyValue(final Properties properties, final String propertyName) {
+			final String propertyValue = properties.getProperty(propertyName);
+			if (propertyValue != null) {
+				return propertyValue.trim();
+			}
+			throw new RuntimeException(propertyName + " not specified in the " + propertyFile + " file.");
+		}
+	}
+
+	/**
+	 * Value which is only required by the callers which use it.
+	 *
+	 * @param <T> Value type.
+	 */
+	private static class OptionalValue<T> {
+		private final String propertyName;
+		private final T value;
+
+		OptionalValue(final Properties properties, final String propertyName, final Function<String, T> parser) {
+			this.propertyName = propertyName;
+			final String propertyValue = properties.getProperty(propertyName);
+			this.value = null == propertyValue ? null : parser.apply(propertyValue.trim());
+		}
+
+		T get() {
+			if (null == value) {
+				throw new RuntimeException(propertyName + " not specified in the " + propertyFile + " file.");
+			}
+			return value;
 		}
-		throw new RuntimeException(propertyName + " not specified in the " + propertyFile + " file.");
 	}
 }
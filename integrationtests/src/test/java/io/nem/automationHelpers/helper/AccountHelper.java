@@ -20,26 +20,45 @@
 
 package io.nem.automationHelpers.helper;
 
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
+import io.nem.automationHelpers.common.AccountReservoir;
+import io.nem.automationHelpers.common.AccountSnapshot;
+import io.nem.automationHelpers.common.CatapultDatabase;
+import io.nem.automationHelpers.common.MosaicBalances;
 import io.nem.automationHelpers.common.TestContext;
 import io.nem.core.utils.ExceptionUtils;
 import io.nem.sdk.infrastructure.directconnect.dataaccess.dao.AccountsDao;
 import io.nem.sdk.model.account.Account;
 import io.nem.sdk.model.account.AccountInfo;
+import io.nem.sdk.model.account.AccountType;
 import io.nem.sdk.model.account.Address;
 import io.nem.sdk.model.account.MultisigAccountInfo;
 import io.nem.sdk.model.blockchain.NetworkType;
 import io.nem.sdk.model.mosaic.Mosaic;
 import io.nem.sdk.model.mosaic.MosaicId;
 import io.nem.sdk.model.message.PlainMessage;
+import org.bouncycastle.util.encoders.Hex;
+import org.bson.Document;
+import org.bson.types.Binary;
 
 import java.math.BigInteger;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Account helper.
  */
 public class AccountHelper {
+	private static final String ACCOUNTS_COLLECTION = "accounts";
 	private final TestContext testContext;
 
 	/**
@@ -77,6 +96,164 @@ public class AccountHelper {
 				() -> getAccountInfo(address));
 	}
 
+	/**
+	 * Gets the balance of a mosaic for an account.
+	 *
+	 * @param address  Account's address.
+	 * @param mosaicId Mosaic id.
+	 * @return Amount of the mosaic or 0 if the account does not own it.
+	 */
+	public long getBalance(final Address address, final MosaicId mosaicId) {
+		return findBalance(address, mosaicId).orElse(0);
+	}
+
+	/**
+	 * Finds the balance of a mosaic for an account. Only the matching mosaic entry is read from the database.
+	 *
+	 * @param address  Account's address.
+	 * @param mosaicId Mosaic id.
+	 * @return Amount of the mosaic, empty if the account does not own it.
+	 */
+	public OptionalLong findBalance(final Address address, final MosaicId mosaicId) {
+		final CatapultDatabase catapultDatabase = testContext.getCatapultDatabase();
+		final Document document =
+				catapultDatabase.getCollection(ACCOUNTS_COLLECTION)
+						.find(
+								Filters.and(
+										Filters.eq("account.address", CatapultDatabase.toBinary(address)),
+										Filters.eq("account.mosaics.id", mosaicId.getIdAsLong())))
+						.projection(Projections.fields(Projections.excludeId(), Projections.elemMatch("account.mosaics")))
+						.maxTime(catapultDatabase.getQueryTimeoutInSeconds(), TimeUnit.SECONDS)
+						.first();
+		if (null == document) {
+			return OptionalLong.empty();
+		}
+		final List<Document> mosaics = document.get("account", Document.class).getList("mosaics", Document.class);
+		return OptionalLong.of(mosaics.get(0).getLong("amount"));
+	}
+
+	/**
+	 * Gets the balances of a list of mosaics for an account in a single query.
+	 *
+	 * @param address   Account's address.
+	 * @param mosaicIds Mosaic ids.
+	 * @return Amounts in the same order as the mosaic ids. 0 if the account does not own the mosaic.
+	 */
+	public long[] getBalances(final Address address, final List<MosaicId> mosaicIds) {
+		final long[] balances = new long[mosaicIds.size()];
+		final List<Long> ids = new ArrayList<>(mosaicIds.size());
+		mosaicIds.forEach(mosaicId -> ids.add(mosaicId.getIdAsLong()));
+		final CatapultDatabase catapultDatabase = testContext.getCatapultDatabase();
+		final MongoCollection<Document> collection = catapultDatabase.getCollection(ACCOUNTS_COLLECTION);
+		final Document filter =
+				new Document("input", "$account.mosaics")
+						.append("as", "mosaic")
+						.append("cond", new Document("$in", Arrays.asList("$$mosaic.id", ids)));
+		final Document document =
+				collection.aggregate(
+						Arrays.asList(
+								new Document("$match", new Document("account.address", CatapultDatabase.toBinary(address))),
+								new Document(
+										"$project",
+										new Document("_id", 0).append("mosaics", new Document("$filter", filter)))))
+						.maxTime(catapultDatabase.getQueryTimeoutInSeconds(), TimeUnit.SECONDS)
+						.first();
+		if (null == document) {
+			return balances;
+		}
+		final Map<Long, Long> amounts = new HashMap<>();
+		for (final Document mosaic : document.getList("mosaics", Document.class)) {
+			amounts.put(mosaic.getLong("id"), mosaic.getLong("amount"));
+		}
+		// The same mosaic id can be requested more than once.
+		for (int i = 0; i < balances.length; i++) {
+			balances[i] = amounts.getOrDefault(ids.get(i), 0L);
+		}
+		return balances;
+	}
+
+	/**
+	 * Takes a snapshot of the mosaic balances of a set of accounts in a single query.
+	 *
+	 * @param addresses Account addresses.
+	 * @return Account snapshot. Accounts not found on the server are not part of the snapshot.
+	 */
+	public AccountSnapshot getAccountSnapshot(final Collection<Address> addresses) {
+		if (addresses.isEmpty()) {
+			return AccountSnapshot.EMPTY;
+		}
+		final List<Binary> binaryAddresses = new ArrayList<>(addresses.size());
+		addresses.forEach(address -> binaryAddresses.add(CatapultDatabase.toBinary(address)));
+		final CatapultDatabase catapultDatabase = testContext.getCatapultDatabase();
+		final Map<String, MosaicBalances> balances = new HashMap<>(addresses.size());
+		for (final Document document :
+				catapultDatabase.getCollection(ACCOUNTS_COLLECTION)
+						.find(Filters.in("account.address", binaryAddresses))
+						.projection(
+								Projections.fields(
+										Projections.excludeId(), Projections.include("account.address", "account.mosaics")))
+						.maxTime(catapultDatabase.getQueryTimeoutInSeconds(), TimeUnit.SECONDS)) {
+			final Document account = document.get("account", Document.class);
+			final List<Document> mosaics = account.getList("mosaics", Document.class);
+			final long[] mosaicIds = new long[mosaics.size()];
+			final long[] amounts = new long[mosaics.size()];
+			for (int i = 0; i < mosaics.size(); i++) {
+				mosaicIds[i] = mosaics.get(i).getLong("id");
+				amounts[i] = mosaics.get(i).getLong("amount");
+			}
+			final Address address = CatapultDatabase.toAddress(account.get("address", Binary.class));
+			balances.put(address.plain(), MosaicBalances.create(mosaicIds, amounts));
+		}
+		return new AccountSnapshot(balances);
+	}
+
+	/**
+	 * Gets the address, public key and mosaics of a set of accounts in a single query. Heights and importance are
+	 * not read and are set to zero.
+	 *
+	 * @param addresses Account addresses.
+	 * @return Account info by plain address. Accounts not found on the server are not part of the map.
+	 */
+	public Map<String, AccountInfo> getAccountInfos(final Collection<Address> addresses) {
+		final Map<String, AccountInfo> accountInfos = new HashMap<>(addresses.size());
+		if (addresses.isEmpty()) {
+			return accountInfos;
+		}
+		final List<Binary> binaryAddresses = new ArrayList<>(addresses.size());
+		addresses.forEach(address -> binaryAddresses.add(CatapultDatabase.toBinary(address)));
+		final CatapultDatabase catapultDatabase = testContext.getCatapultDatabase();
+		for (final Document document :
+				catapultDatabase.getCollection(ACCOUNTS_COLLECTION)
+						.find(Filters.in("account.address", binaryAddresses))
+						.projection(
+								Projections.fields(
+										Projections.excludeId(),
+										Projections.include("account.address", "account.publicKey", "account.mosaics")))
+						.maxTime(catapultDatabase.getQueryTimeoutInSeconds(), TimeUnit.SECONDS)) {
+			final Document account = document.get("account", Document.class);
+			final List<Mosaic> mosaics = new ArrayList<>();
+			for (final Document mosaic : account.getList("mosaics", Document.class)) {
+				mosaics.add(
+						new Mosaic(
+								new MosaicId(new BigInteger(Long.toUnsignedString(mosaic.getLong("id")))),
+								new BigInteger(Long.toUnsignedString(mosaic.getLong("amount")))));
+			}
+			final Address address = CatapultDatabase.toAddress(account.get("address", Binary.class));
+			accountInfos.put(
+					address.plain(),
+					new AccountInfo(
+							address,
+							BigInteger.ZERO,
+							Hex.toHexString(account.get("publicKey", Binary.class).getData()).toUpperCase(),
+							BigInteger.ZERO,
+							BigInteger.ZERO,
+							BigInteger.ZERO,
+							mosaics,
+							AccountType.UNLINKED));
+		}
+		return accountInfos;
+	}
+
 	/**
 	 * Creates an account with asset.
 	 *
@@ -96,7 +273,7 @@ public class AccountHelper {
 	 */
 	public Account createAccountWithAsset(final Mosaic mosaic) {
 		final NetworkType networkType = testContext.getNetworkType();
-		final Account account = Account.generateNewAccount(networkType);
+		final Account account = AccountReservoir.getInstance(networkType).generateNewAccount();
 		final TransferHelper transferHelper = new TransferHelper(testContext);
 		transferHelper.submitTransferAndWait(
 				testContext.getDefaultSignerAccount(),
@@ -106,6 +283,22 @@ public class AccountHelper {
 		return account;
 	}
 
+	/**
+	 * Creates an account and adds the transfer of an asset to it to a packer.
+	 *
+	 * @param mosaic                Mosaic.
+	 * @param aggregatePackerHelper Packer that announces the transfer.
+	 * @return Account.
+	 */
+	public Account createAccountWithAsset(final Mosaic mosaic, final AggregatePackerHelper aggregatePackerHelper) {
+		final Account account = AccountReservoir.getInstance(testContext.getNetworkType()).generateNewAccount();
+		aggregatePackerHelper.add(
+				testContext.getDefaultSignerAccount(),
+				new TransferHelper(testContext)
+						.createTransferTransaction(account.getAddress(), Arrays.asList(mosaic), PlainMessage.Empty));
+		return account;
+	}
+
 	/**
 	 * Gets multisig account by address.
 	 *
@@ -61,7 +61,16 @@ public class AccountMetadataHelper {
 		return CommonHelper.appendCommonPropertiesAndBuildTransaction(accountMetadataTransactionFactory, deadline, maxFee);
 	}
 
-	private AccountMetadataTransaction createAccountMetadataTransaction(
+	/**
+	 * Creates an account metadata transaction.
+	 *
+	 * @param targetPublicAccount Target public account.
+	 * @param scopedMetadataKey   Scoped meta data Key.
+	 * @param valueSizeDelta      Value size delta.
+	 * @param value               Metadata value.
+	 * @return Account metadata transaction.
+	 */
+	public AccountMetadataTransaction createAccountMetadataTransaction(
 			final PublicAccount targetPublicAccount,
 			final BigInteger scopedMetadataKey,
 			final short valueSizeDelta,
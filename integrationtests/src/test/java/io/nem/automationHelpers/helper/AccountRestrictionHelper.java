@@ -28,7 +28,9 @@ import io.nem.sdk.model.mosaic.MosaicId;
 import io.nem.sdk.model.mosaic.UnresolvedMosaicId;
 import io.nem.sdk.model.transaction.*;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.BiFunction;
 
 /**
  * AccountRestriction helper.
@@ -278,6 +280,100 @@ public class AccountRestrictionHelper {
 				() -> createAccountTransactionTypeRestrictionTransaction(restrictionType, additions, deletions));
 	}
 
+	/**
+	 * Splits mosaic restriction modifications into transactions of the maximum allowed size and announces them in
+	 * a single aggregate complete transaction. Wait for the transaction to complete.
+	 *
+	 * @param account         Signer account.
+	 * @param restrictionType Restriction type.
+	 * @param additions       Mosaics to add.
+	 * @param deletions       Mosaics to remove.
+	 * @return Aggregate transaction.
+	 */
+	public AggregateTransaction createAccountMosaicRestrictionBatchAndWait(
+			final Account account, final AccountRestrictionType restrictionType,
+			final List<UnresolvedMosaicId> additions, final List<UnresolvedMosaicId> deletions) {
+		return announceRestrictionBatchAndWait(
+				account,
+				createRestrictionBatch(
+						account, additions, deletions,
+						(chunkAdditions, chunkDeletions) ->
+								createAccountMosaicRestrictionTransaction(restrictionType, chunkAdditions, chunkDeletions)));
+	}
+
+	/**
+	 * Splits address restriction modifications into transactions of the maximum allowed size and announces them in
+	 * a single aggregate complete transaction. Wait for the transaction to complete.
+	 *
+	 * @param account         Signer account.
+	 * @param restrictionType Restriction type.
+	 * @param additions       Addresses to add.
+	 * @param deletions       Addresses to remove.
+	 * @return Aggregate transaction.
+	 */
+	public AggregateTransaction createAccountAddressRestrictionBatchAndWait(
+			final Account account, final AccountRestrictionType restrictionType,
+			final List<UnresolvedAddress> additions, final List<UnresolvedAddress> deletions) {
+		return announceRestrictionBatchAndWait(
+				account,
+				createRestrictionBatch(
+						account, additions, deletions,
+						(chunkAdditions, chunkDeletions) ->
+								createAccountAddressRestrictionTransaction(restrictionType, chunkAdditions, chunkDeletions)));
+	}
+
+	/**
+	 * Splits transaction type restriction modifications into transactions of the maximum allowed size and announces
+	 * them in a single aggregate complete transaction. Wait for the transaction to complete.
+	 *
+	 * @param account         Signer account.
+	 * @param restrictionType Restriction type.
+	 * @param additions       Transaction types to add.
+	 * @param deletions       Transaction types to remove.
+	 * @return Aggregate transaction.
+	 */
+	public AggregateTransaction createAccountTransactionTypeRestrictionBatchAndWait(
+			final Account account, final AccountRestrictionType restrictionType,
+			final List<TransactionType> additions, final List<TransactionType> deletions) {
+		return announceRestrictionBatchAndWait(
+				account,
+				createRestrictionBatch(
+						account, additions, deletions,
+						(chunkAdditions, chunkDeletions) ->
+								createAccountTransactionTypeRestrictionTransaction(restrictionType, chunkAdditions, chunkDeletions)));
+	}
+
+	private <T> List<Transaction> createRestrictionBatch(
+			final Account account, final List<T> additions, final List<T> deletions,
+			final BiFunction<List<T>, List<T>, Transaction> transactionFactory) {
+		final int maxValues = testContext.getConfigFileReader().getMaxAccountRestrictionValues();
+		final List<Transaction> innerTransactions = new ArrayList<>();
+		int additionIndex = 0;
+		int deletionIndex = 0;
+		do {
+			final int additionCount = Math.min(maxValues, additions.size() - additionIndex);
+			final int deletionCount = Math.min(maxValues - additionCount, deletions.size() - deletionIndex);
+			final Transaction transaction = transactionFactory.apply(
+					new ArrayList<>(additions.subList(additionIndex, additionIndex + additionCount)),
+					new ArrayList<>(deletions.subList(deletionIndex, deletionIndex + deletionCount)));
+			innerTransactions.add(transaction.toAggregate(account.getPublicAccount()));
+			additionIndex += additionCount;
+			deletionIndex += deletionCount;
+		} while (additionIndex < additions.size() || deletionIndex < deletions.size());
+		return innerTransactions;
+	}
+
+	private AggregateTransaction announceRestrictionBatchAndWait(
+			final Account account, final List<Transaction> innerTransactions) {
+		testContext.getLogger().LogInfo(
+				"Announcing {} account restriction transactions in one aggregate", innerTransactions.size());
+		final AggregateHelper aggregateHelper = new AggregateHelper(testContext);
+		final TransactionHelper transactionHelper = new TransactionHelper(testContext);
+		return transactionHelper.signAndAnnounceTransactionAndWait(
+				account,
+				() -> aggregateHelper.createAggregateCompleteTransaction(innerTransactions));
+	}
+
 	/**
 	 *
 	 * @param restrictionType
@@ -183,15 +183,11 @@ public class AggregateHelper {
 	 */
 	public SignedTransaction createAggregateBondedAndAnnounce(
 			final Account account, final List<Transaction> innerTransaction) {
-		final TransactionHelper transactionHelper = new TransactionHelper(testContext);
-		final AggregateTransaction aggregateTransaction =
-				createAggregateBondedTransaction(innerTransaction);
+		final Mosaic mosaicToLock = NetworkCurrencyMosaic.createRelative(BigInteger.valueOf(10));
 		final SignedTransaction signedTransaction =
-				transactionHelper.signTransaction(aggregateTransaction, account);
-		final BigInteger duration = BigInteger.valueOf(5);
-		submitLockFundForBondedTransaction(account, signedTransaction, duration);
-		transactionHelper.announceTransaction(signedTransaction);
-		return signedTransaction;
+				new TransactionHelper(testContext).signTransaction(createAggregateBondedTransaction(innerTransaction), account);
+		return new BondedPipelineHelper(testContext)
+				.announce(account, signedTransaction, mosaicToLock, BigInteger.valueOf(5));
 	}
 
 	/**
@@ -235,7 +231,21 @@ public class AggregateHelper {
 		final CosignatureSignedTransaction cosignatureSignedTransaction = account.signCosignatureTransaction(cosignatureTransaction);
 		final TransactionHelper transactionHelper = new TransactionHelper(testContext);
 		transactionHelper.announceAggregateBondedCosignature(cosignatureSignedTransaction);
-		testContext.getLogger().LogInfo("Cosign bonded with account: " + account.getPublicKey());
+		testContext.getLogger().LogInfo("Cosign bonded with account: {}", account.getPublicKey());
+	}
+
+	/**
+	 * Cosign a aggregate bonded transaction with many accounts. The cosignatures are signed in parallel.
+	 *
+	 * @param accounts             Accounts to cosign.
+	 * @param aggregateTransaction Aggregate transaction.
+	 */
+	public void cosignAggregateBonded(final List<Account> accounts, final AggregateTransaction aggregateTransaction) {
+		final List<CosignatureSignedTransaction> cosignatureSignedTransactions =
+				new BatchSignHelper(testContext).signCosignatures(aggregateTransaction, accounts);
+		final TransactionHelper transactionHelper = new TransactionHelper(testContext);
+		cosignatureSignedTransactions.forEach(transactionHelper::announceAggregateBondedCosignature);
+		testContext.getLogger().LogInfo("Cosign bonded with {} accounts", accounts.size());
 	}
 
 	/**
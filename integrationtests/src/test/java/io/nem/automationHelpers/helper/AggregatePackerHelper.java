@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2016-present,
+ * Jaguar0625, gimre, BloodyRookie, Tech Bureau, Corp. All rights reserved.
+ *
+ * This file is part of Catapult.
+ *
+ * Catapult is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Catapult is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Catapult.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.nem.automationHelpers.helper;
+
+import io.nem.automationHelpers.common.TestContext;
+import io.nem.sdk.model.account.Account;
+import io.nem.sdk.model.transaction.SignedTransaction;
+import io.nem.sdk.model.transaction.Transaction;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Packs independent transactions into as few aggregate complete transactions as the aggregate limit allows.
+ * Transactions are grouped by signer so the aggregates do not need cosignatures.
+ */
+public class AggregatePackerHelper {
+	private final TestContext testContext;
+	private final Map<String, SignerTransactions> pendingTransactions = new LinkedHashMap<>();
+	private boolean alwaysAggregate;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param testContext Test context.
+	 */
+	public AggregatePackerHelper(final TestContext testContext) {
+		this.testContext = testContext;
+	}
+
+	/**
+	 * Announces a signer with a single transaction as an aggregate too, which is required for transactions that are
+	 * only valid inside an aggregate such as metadata transactions.
+	 *
+	 * @return This packer.
+	 */
+	public synchronized AggregatePackerHelper alwaysAggregate() {
+		alwaysAggregate = true;
+		return this;
+	}
+
+	/**
+	 * Adds a transaction to pack.
+	 *
+	 * @param signer      Signer account.
+	 * @param transaction Transaction which is not an aggregate inner transaction yet.
+	 * @return This packer.
+	 */
+	public AggregatePackerHelper add(final Account signer, final Transaction transaction) {
+		return add(signer, Collections.singletonList(transaction));
+	}
+
+	/**
+	 * Adds transactions which must be packed in the same aggregate, e.g. a mosaic definition and its supply change.
+	 *
+	 * @param signer       Signer account.
+	 * @param transactions Transactions which are not aggregate inner transactions yet.
+	 * @return This packer.
+	 */
+	public synchronized AggregatePackerHelper add(final Account signer, final List<? extends Transaction> transactions) {
+		final int maxTransactionsPerAggregate = testContext.getConfigFileReader().getMaxTransactionsPerAggregate();
+		if (transactions.size() > maxTransactionsPerAggregate) {
+			throw new IllegalArgumentException(
+					"Group of " + transactions.size() + " transactions is larger than the aggregate limit of "
+							+ maxTransactionsPerAggregate);
+		}
+		pendingTransactions
+				.computeIfAbsent(signer.getPublicKey().toUpperCase(), key -> new SignerTransactions(signer))
+				.groups.add(new ArrayList<>(transactions));
+		return this;
+	}
+
+	/**
+	 * Packs, signs and announces the added transactions. Unless {@link #alwaysAggregate()} is set, a signer with a
+	 * single transaction announces it as is.
+	 *
+	 * @param asyncSetupHelper Setup that waits for the announced transactions.
+	 * @return Signed transactions.
+	 */
+	public List<SignedTransaction> announce(final AsyncSetupHelper asyncSetupHelper) {
+		final List<SignedTransaction> signedTransactions = announce();
+		signedTransactions.forEach(asyncSetupHelper::register);
+		return signedTransactions;
+	}
+
+	/**
+	 * Packs, signs and announces the added transactions and waits for all of them to be confirmed.
+	 *
+	 * @return Confirmed transactions.
+	 */
+	public List<Transaction> submitAndWait() {
+		final TransactionHelper transactionHelper = new TransactionHelper(testContext);
+		final AsyncSetupHelper asyncSetupHelper = new AsyncSetupHelper(testContext);
+		final List<CompletableFuture<Transaction>> confirmations = new ArrayList<>();
+		announce().forEach(
+				signedTransaction ->
+						confirmations.add(
+								asyncSetupHelper.submit(
+										() -> transactionHelper.waitForTransactionToComplete(signedTransaction))));
+		return asyncSetupHelper.await(confirmations);
+	}
+
+	private List<SignedTransaction> announce() {
+		final List<SignerTransactions> signers;
+		final boolean announceSingleTransactions;
+		synchronized (this) {
+			signers = new ArrayList<>(pendingTransactions.values());
+			pendingTransactions.clear();
+			announceSingleTransactions = !alwaysAggregate;
+		}
+		final int maxTransactionsPerAggregate = testContext.getConfigFileReader().getMaxTransactionsPerAggregate();
+		final TransactionHelper transactionHelper = new TransactionHelper(testContext);
+		final AggregateHelper aggregateHelper = new AggregateHelper(testContext);
+		final List<SignedTransaction> signedTransactions = new ArrayList<>();
+		int transactionCount = 0;
+		for (final SignerTransactions signer : signers) {
+			for (final List<Transaction> aggregate : pack(signer.groups, maxTransactionsPerAggregate)) {
+				transactionCount += aggregate.size();
+				if (announceSingleTransactions && 1 == aggregate.size()) {
+					signedTransactions.add(transactionHelper.signAndAnnounceTransaction(aggregate.get(0), signer.account));
+					continue;
+				}
+				final List<Transaction> innerTransactions = new ArrayList<>(aggregate.size());
+				aggregate.forEach(
+						transaction -> innerTransactions.add(transaction.toAggregate(signer.account.getPublicAccount())));
+				signedTransactions.add(
+						transactionHelper.signAndAnnounceTransaction(
+								signer.account, () -> aggregateHelper.createAggregateCompleteTransaction(innerTransactions)));
+			}
+		}
+		testContext.getLogger().LogInfo(
+				"Packed {} transactions of {} signers into {} transactions",
+				transactionCount,
+				signers.size(),
+				signedTransactions.size());
+		return signedTransactions;
+	}
+
+	/**
+	 * Packs groups of transactions with first fit decreasing, which keeps each group in one aggregate.
+	 *
+	 * @param groups   Groups of transactions.
+	 * @param capacity Maximum number of transactions in an aggregate.
+	 * @return Transactions of each aggregate.
+	 */
+	private static List<List<Transaction>> pack(final List<List<Transaction>> groups, final int capacity) {
+		final List<List<Transaction>> sortedGroups = new ArrayList<>(groups);
+		sortedGroups.sort((first, second) -> Integer.compare(second.size(), first.size()));
+		final List<List<Transaction>> aggregates = new ArrayList<>();
+		for (final List<Transaction> group : sortedGroups) {
+			List<Transaction> aggregate = null;
+			for (final List<Transaction> candidate : aggregates) {
+				if (candidate.size() + group.size() <= capacity) {
+					aggregate = candidate;
+					break;
+				}
+			}
+			if (null == aggregate) {
+				aggregate = new ArrayList<>(capacity);
+				aggregates.add(aggregate);
+			}
+			aggregate.addAll(group);
+		}
+		return aggregates;
+	}
+
+	/**
+	 * Transactions added for a signer.
+	 */
+	private static class SignerTransactions {
+		private final Account account;
+		private final List<List<Transaction>> groups = new ArrayList<>();
+
+		SignerTransactions(final Account account) {
+			this.account = account;
+		}
+	}
+}
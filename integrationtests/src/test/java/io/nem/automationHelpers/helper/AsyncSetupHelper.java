@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2016-present,
+ * Jaguar0625, gimre, BloodyRookie, Tech Bureau, Corp. All rights reserved.
+ *
+ * This file is part of Catapult.
+ *
+ * Catapult is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Catapult is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Catapult.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.nem.automationHelpers.helper;
+
+import io.nem.automationHelpers.common.TestContext;
+import io.nem.automationHelpers.config.ConfigFileReader;
+import io.nem.sdk.model.transaction.SignedTransaction;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Runs the independent setup operations of a step concurrently.
+ * Operations register the transactions they announce instead of waiting for them, and the step waits for all of
+ * them once, so the setup takes about one block instead of one block per operation.
+ * The operations of all the steps share a pool of asyncSetupThreadCount threads, further operations are queued.
+ */
+public class AsyncSetupHelper {
+	private static final ExecutorService executorService = createExecutorService();
+	private final TestContext testContext;
+	private final List<CompletableFuture<?>> operations = new ArrayList<>();
+	private final Queue<SignedTransaction> announcedTransactions = new ConcurrentLinkedQueue<>();
+
+	/**
+	 * Constructor.
+	 *
+	 * @param testContext Test context.
+	 */
+	public AsyncSetupHelper(final TestContext testContext) {
+		this.testContext = testContext;
+	}
+
+	/**
+	 * Starts a setup operation.
+	 *
+	 * @param operation Operation to run.
+	 * @param <T>       Result type.
+	 * @return Future result of the operation.
+	 */
+	public <T> CompletableFuture<T> submit(final Supplier<T> operation) {
+		final CompletableFuture<T> future = CompletableFuture.supplyAsync(operation, executorService);
+		synchronized (operations) {
+			operations.add(future);
+		}
+		return future;
+	}
+
+	/**
+	 * Registers an announced transaction to wait for.
+	 *
+	 * @param signedTransaction Announced transaction.
+	 * @return Signed transaction.
+	 */
+	public SignedTransaction register(final SignedTransaction signedTransaction) {
+		announcedTransactions.add(signedTransaction);
+		return signedTransaction;
+	}
+
+	/**
+	 * Waits for all the operations and then for all the registered transactions to be confirmed.
+	 */
+	public void await() {
+		final TransactionHelper transactionHelper = new TransactionHelper(testContext);
+		List<CompletableFuture<?>> startedOperations;
+		do {
+			// Operations can start more operations while the earlier ones are running.
+			synchronized (operations) {
+				startedOperations = new ArrayList<>(operations);
+				operations.clear();
+			}
+			join(startedOperations);
+		} while (!startedOperations.isEmpty());
+		final List<CompletableFuture<?>> confirmations = new ArrayList<>(announcedTransactions.size());
+		SignedTransaction signedTransaction;
+		while (null != (signedTransaction = announcedTransactions.poll())) {
+			final SignedTransaction transaction = signedTransaction;
+			confirmations.add(
+					CompletableFuture.supplyAsync(
+							() -> transactionHelper.waitForTransactionToComplete(transaction), executorService));
+		}
+		join(confirmations);
+	}
+
+	/**
+	 * Waits for a list of operations and returns their results in order.
+	 *
+	 * @param futures Operations.
+	 * @param <T>     Result type.
+	 * @return Results.
+	 */
+	public <T> List<T> await(final List<CompletableFuture<T>> futures) {
+		await();
+		final List<T> results = new ArrayList<>(futures.size());
+		futures.forEach(future -> results.add(future.join()));
+		return results;
+	}
+
+	private static ExecutorService createExecutorService() {
+		final int threadCount = new ConfigFileReader().getAsyncSetupThreadCount();
+		final ThreadPoolExecutor threadPoolExecutor =
+				new ThreadPoolExecutor(
+						threadCount,
+						threadCount,
+						60,
+						TimeUnit.SECONDS,
+						new LinkedBlockingQueue<>(),
+						runnable -> {
+							final Thread thread = new Thread(runnable, "async-setup");
+							thread.setDaemon(true);
+							return thread;
+						});
+		threadPoolExecutor.allowCoreThreadTimeOut(true);
+		return threadPoolExecutor;
+	}
+
+	private static void join(final List<CompletableFuture<?>> futures) {
+		try {
+			CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+		} catch (final CompletionException e) {
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
+			if (e.getCause() instanceof Error) {
+				throw (Error) e.getCause();
+			}
+			throw e;
+		}
+	}
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2016-present,
+ * Jaguar0625, gimre, BloodyRookie, Tech Bureau, Corp. All rights reserved.
+ *
+ * This file is part of Catapult.
+ *
+ * Catapult is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Catapult is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Catapult.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.nem.automationHelpers.helper;
+
+import io.nem.automationHelpers.common.TestContext;
+import io.nem.sdk.model.account.Account;
+import io.nem.sdk.model.transaction.AggregateTransaction;
+import io.nem.sdk.model.transaction.CosignatureSignedTransaction;
+import io.nem.sdk.model.transaction.CosignatureTransaction;
+import io.nem.sdk.model.transaction.SignedTransaction;
+import io.nem.sdk.model.transaction.Transaction;
+import org.apache.commons.lang3.tuple.Pair;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Signs many transactions or cosignatures in parallel. Results are returned in the order of the input.
+ */
+public class BatchSignHelper {
+	private final TestContext testContext;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param testContext Test context.
+	 */
+	public BatchSignHelper(final TestContext testContext) {
+		this.testContext = testContext;
+	}
+
+	/**
+	 * Signs a list of transactions.
+	 *
+	 * @param transactionsToSign Pairs of transaction and signer.
+	 * @return Signed transactions in input order.
+	 */
+	public List<SignedTransaction> signTransactions(final List<Pair<? extends Transaction, Account>> transactionsToSign) {
+		final String generationHash = testContext.getGenerationHash();
+		return IntStream.range(0, transactionsToSign.size()).parallel()
+				.mapToObj(i -> {
+					final Pair<? extends Transaction, Account> pair = transactionsToSign.get(i);
+					return pair.getRight().sign(pair.getLeft(), generationHash);
+				})
+				.collect(Collectors.toList());
+	}
+
+	/**
+	 * Signs and announces a list of transactions.
+	 *
+	 * @param transactionsToSign Pairs of transaction and signer.
+	 * @return Signed transactions in input order.
+	 */
+	public List<SignedTransaction> signAndAnnounceTransactions(
+			final List<Pair<? extends Transaction, Account>> transactionsToSign) {
+		final List<SignedTransaction> signedTransactions = signTransactions(transactionsToSign);
+		final TransactionHelper transactionHelper = new TransactionHelper(testContext);
+		signedTransactions.forEach(transactionHelper::announceTransaction);
+		return signedTransactions;
+	}
+
+	/**
+	 * Signs a list of aggregate transactions with the same initiator and cosigners. The aggregates are signed in
+	 * parallel, the cosignatures of a single aggregate are signed by the sdk one after the other.
+	 *
+	 * @param aggregateTransactions Aggregate transactions.
+	 * @param initiatorAccount      Initiator account.
+	 * @param cosigners             List of cosigners.
+	 * @return Signed aggregate transactions in input order.
+	 */
+	public List<SignedTransaction> signAggregatesWithCosigners(
+			final List<AggregateTransaction> aggregateTransactions,
+			final Account initiatorAccount,
+			final List<Account> cosigners) {
+		final String generationHash = testContext.getGenerationHash();
+		return IntStream.range(0, aggregateTransactions.size()).parallel()
+				.mapToObj(i -> aggregateTransactions.get(i).signTransactionWithCosigners(
+						initiatorAccount, cosigners, generationHash))
+				.collect(Collectors.toList());
+	}
+
+	/**
+	 * Creates the cosignatures of an aggregate bonded transaction.
+	 *
+	 * @param aggregateTransaction Aggregate transaction.
+	 * @param cosigners            List of cosigners.
+	 * @return Cosignature signed transactions in input order.
+	 */
+	public List<CosignatureSignedTransaction> signCosignatures(
+			final AggregateTransaction aggregateTransaction, final List<Account> cosigners) {
+		final CosignatureTransaction cosignatureTransaction = CosignatureTransaction.create(aggregateTransaction);
+		return cosigners.parallelStream()
+				.map(cosigner -> cosigner.signCosignatureTransaction(cosignatureTransaction))
+				.collect(Collectors.toList());
+	}
+}
@@ -20,6 +20,8 @@
 
 package io.nem.automationHelpers.helper;
 
+import io.nem.automationHelpers.common.BlockClock;
+import io.nem.automationHelpers.common.RetryPolicy;
 import io.nem.automationHelpers.common.TestContext;
 import io.nem.core.utils.ExceptionUtils;
 import io.nem.sdk.infrastructure.directconnect.dataaccess.dao.BlockchainDao;
@@ -50,12 +52,33 @@ public class BlockChainHelper {
 	 * @return Block chain height.
 	 */
 	public BigInteger getBlockchainHeight() {
-		return ExceptionUtils.propagate(
+		final BigInteger height = ExceptionUtils.propagate(
 				() ->
 						new BlockchainDao(testContext.getCatapultContext())
 								.getBlockchainHeight()
 								.toFuture()
 								.get());
+		BlockClock.observeHeight(height.longValue());
+		return height;
+	}
+
+	/**
+	 * Waits for the block chain to reach a height.
+	 *
+	 * @param height Block chain height.
+	 * @return Block chain height.
+	 */
+	public BigInteger waitForBlockchainHeight(final long height) {
+		return testContext.getConfigFileReader().getRetryPolicy("blockHeight")
+				.run(
+						(final RetryPolicy.Attempt attempt) -> {
+							final BigInteger currentHeight = getBlockchainHeight();
+							if (currentHeight.longValue() < height) {
+								throw new IllegalStateException(
+										"Block chain height " + currentHeight + " has not reached " + height);
+							}
+							return currentHeight;
+						});
 	}
 
 	/**
@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2016-present,
+ * Jaguar0625, gimre, BloodyRookie, Tech Bureau, Corp. All rights reserved.
+ *
+ * This file is part of Catapult.
+ *
+ * Catapult is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Catapult is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Catapult.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.nem.automationHelpers.helper;
+
+import io.nem.automationHelpers.common.TestContext;
+import io.nem.sdk.model.account.Account;
+import io.nem.sdk.model.mosaic.Mosaic;
+import io.nem.sdk.model.mosaic.NetworkCurrencyMosaic;
+import io.nem.sdk.model.transaction.AggregateTransaction;
+import io.nem.sdk.model.transaction.HashLockTransaction;
+import io.nem.sdk.model.transaction.SignedTransaction;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Runs many aggregate bonded flows at the same time. The hash locks are announced together when the flows are
+ * submitted, each bonded transaction is announced as soon as its lock is confirmed and the cosignatures are sent as
+ * soon as the partial transaction shows in the pt cache.
+ */
+public class BondedPipelineHelper {
+	private static final BigInteger DEFAULT_LOCK_DURATION = BigInteger.valueOf(5);
+	private final TestContext testContext;
+	private final AsyncSetupHelper asyncSetupHelper;
+	private final List<CompletableFuture<SignedTransaction>> flows = new ArrayList<>();
+
+	/**
+	 * Constructor.
+	 *
+	 * @param testContext Test context.
+	 */
+	public BondedPipelineHelper(final TestContext testContext) {
+		this.testContext = testContext;
+		this.asyncSetupHelper = new AsyncSetupHelper(testContext);
+	}
+
+	/**
+	 * Starts a bonded flow which locks 10 units of the network currency for 5 blocks.
+	 *
+	 * @param initiator            Initiator account.
+	 * @param aggregateTransaction Aggregate bonded transaction.
+	 * @param cosigners            Accounts which cosign once the partial transaction shows.
+	 * @return Future signed bonded transaction, completed once it is announced and cosigned.
+	 */
+	public CompletableFuture<SignedTransaction> submit(
+			final Account initiator, final AggregateTransaction aggregateTransaction, final List<Account> cosigners) {
+		return submit(
+				initiator,
+				aggregateTransaction,
+				cosigners,
+				NetworkCurrencyMosaic.createRelative(BigInteger.valueOf(10)),
+				DEFAULT_LOCK_DURATION);
+	}
+
+	/**
+	 * Starts a bonded flow. The hash lock is announced before returning.
+	 *
+	 * @param initiator            Initiator account.
+	 * @param aggregateTransaction Aggregate bonded transaction.
+	 * @param cosigners            Accounts which cosign once the partial transaction shows.
+	 * @param mosaicToLock         Mosaic to lock.
+	 * @param lockDuration         Duration of the lock.
+	 * @return Future signed bonded transaction, completed once it is announced and cosigned.
+	 */
+	public CompletableFuture<SignedTransaction> submit(
+			final Account initiator,
+			final AggregateTransaction aggregateTransaction,
+			final List<Account> cosigners,
+			final Mosaic mosaicToLock,
+			final BigInteger lockDuration) {
+		return submit(
+				initiator,
+				new TransactionHelper(testContext).signTransaction(aggregateTransaction, initiator),
+				cosigners,
+				mosaicToLock,
+				lockDuration);
+	}
+
+	/**
+	 * Starts a bonded flow for a signed aggregate bonded transaction. The hash lock is announced before returning.
+	 *
+	 * @param initiator         Account which locks the funds.
+	 * @param signedTransaction Signed aggregate bonded transaction.
+	 * @param cosigners         Accounts which cosign once the partial transaction shows.
+	 * @param mosaicToLock      Mosaic to lock.
+	 * @param lockDuration      Duration of the lock.
+	 * @return Future signed bonded transaction, completed once it is announced and cosigned.
+	 */
+	public CompletableFuture<SignedTransaction> submit(
+			final Account initiator,
+			final SignedTransaction signedTransaction,
+			final List<Account> cosigners,
+			final Mosaic mosaicToLock,
+			final BigInteger lockDuration) {
+		final TransactionHelper transactionHelper = new TransactionHelper(testContext);
+		final AggregateHelper aggregateHelper = new AggregateHelper(testContext);
+		final SignedTransaction signedLockTransaction =
+				aggregateHelper.createLockFundsAndAnnounce(initiator, mosaicToLock, lockDuration, signedTransaction);
+		final CompletableFuture<SignedTransaction> flow =
+				asyncSetupHelper.submit(
+						() -> {
+							// Locks announced together are released together by the block aligned waiter.
+							final HashLockTransaction lockTransaction =
+									transactionHelper.waitForTransactionToComplete(signedLockTransaction);
+							testContext.addTransaction(lockTransaction);
+							transactionHelper.announceAggregateBonded(signedTransaction);
+							if (!cosigners.isEmpty()) {
+								aggregateHelper.cosignAggregateBonded(
+										cosigners, transactionHelper.waitForBondedTransaction(signedTransaction));
+							}
+							return signedTransaction;
+						});
+		synchronized (flows) {
+			flows.add(flow);
+		}
+		return flow;
+	}
+
+	/**
+	 * Waits until all the submitted flows are announced and cosigned.
+	 *
+	 * @return Signed bonded transactions in submit order.
+	 */
+	public List<SignedTransaction> awaitAnnounced() {
+		final List<CompletableFuture<SignedTransaction>> submittedFlows;
+		synchronized (flows) {
+			submittedFlows = new ArrayList<>(flows);
+			flows.clear();
+		}
+		return asyncSetupHelper.await(submittedFlows);
+	}
+
+	/**
+	 * Waits until all the submitted bonded transactions are confirmed.
+	 *
+	 * @return Confirmed aggregate transactions in submit order.
+	 */
+	public List<AggregateTransaction> awaitConfirmed() {
+		final TransactionHelper transactionHelper = new TransactionHelper(testContext);
+		final List<CompletableFuture<AggregateTransaction>> confirmations = new ArrayList<>();
+		awaitAnnounced().forEach(
+				signedTransaction ->
+						confirmations.add(
+								asyncSetupHelper.submit(
+										() -> transactionHelper.waitForTransactionToComplete(signedTransaction))));
+		return asyncSetupHelper.await(confirmations);
+	}
+
+	/**
+	 * Runs a single bonded flow without cosigners and waits until the bonded transaction is announced.
+	 *
+	 * @param initiator         Account which locks the funds.
+	 * @param signedTransaction Signed aggregate bonded transaction.
+	 * @param mosaicToLock      Mosaic to lock.
+	 * @param lockDuration      Duration of the lock.
+	 * @return Signed bonded transaction.
+	 */
+	public SignedTransaction announce(
+			final Account initiator,
+			final SignedTransaction signedTransaction,
+			final Mosaic mosaicToLock,
+			final BigInteger lockDuration) {
+		final CompletableFuture<SignedTransaction> flow =
+				submit(initiator, signedTransaction, Collections.emptyList(), mosaicToLock, lockDuration);
+		awaitAnnounced();
+		return flow.join();
+	}
+}
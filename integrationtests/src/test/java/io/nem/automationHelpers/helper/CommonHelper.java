@@ -21,6 +21,8 @@
 package io.nem.automationHelpers.helper;
 
 import io.nem.automation.common.BaseTest;
+import io.nem.automationHelpers.common.AccountReservoir;
+import io.nem.automationHelpers.common.RandomSource;
 import io.nem.automationHelpers.common.TestContext;
 import io.nem.core.utils.ExceptionUtils;
 import io.nem.sdk.model.account.Account;
@@ -33,22 +35,23 @@ import io.nem.sdk.model.transaction.Transaction;
 import io.nem.sdk.model.transaction.TransactionFactory;
 
 import java.math.BigInteger;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Random;
+import java.util.OptionalLong;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 /**
  * Common helper.
  */
 public class CommonHelper {
-	private static final Map<String, Account> USER_ACCOUNTS = new HashMap();
+	private static final Map<String, Account> USER_ACCOUNTS = new ConcurrentHashMap<>();
 
 	/** Static initialize. */
 	static {
@@ -63,7 +66,7 @@ public class CommonHelper {
 	 * @return Randon boolean value.
 	 */
 	public static boolean getRandomNextBoolean() {
-		return new Random(System.currentTimeMillis()).nextBoolean();
+		return RandomSource.nextBoolean();
 	}
 
 	/**
@@ -77,8 +80,7 @@ public class CommonHelper {
 		if (start >= end) {
 			throw new IllegalArgumentException("end must be greater than start");
 		}
-		Random r = new Random(System.currentTimeMillis());
-		return r.nextInt((end - start) + 1) + start;
+		return RandomSource.nextInt(start, end);
 	}
 
 	/**
@@ -97,9 +99,7 @@ public class CommonHelper {
 	 * @param account Account.
 	 */
 	public static void addUser(final String name, final Account account) {
-		if (!accountExist(name)) {
-			USER_ACCOUNTS.put(name, account);
-		}
+		USER_ACCOUNTS.putIfAbsent(name, account);
 	}
 
 	/**
@@ -110,10 +110,8 @@ public class CommonHelper {
 	 * @return User account.
 	 */
 	public static Account getAccount(final String name, final NetworkType networkType) {
-		if (!accountExist(name)) {
-			addUser(name, Account.generateNewAccount(networkType));
-		}
-		return USER_ACCOUNTS.get(name);
+		return USER_ACCOUNTS.computeIfAbsent(
+				name, key -> AccountReservoir.getInstance(networkType).generateNewAccount());
 	}
 
 	/**
@@ -148,7 +146,7 @@ public class CommonHelper {
 	 * @return Random Namespace name.
 	 */
 	public static String getRandomNamespaceName(final String namePrefix) {
-		return namePrefix + getRandomValueInRange(0, 100000000);
+		return RandomSource.nextUniqueName(namePrefix, 100000000);
 	}
 
 	/**
@@ -164,23 +162,23 @@ public class CommonHelper {
 			final AccountInfo intialAccountInfo,
 			final MosaicId mosaicId,
 			final long expectedAmountChange) {
-		final AccountInfo newAccountInfo =
-				new AccountHelper(testContext).getAccountInfo(intialAccountInfo.getAddress());
+		final OptionalLong mosaicAfter =
+				new AccountHelper(testContext).findBalance(intialAccountInfo.getAddress(), mosaicId);
+		assertTrue(
+				"Account " + intialAccountInfo.getAddress().pretty() + " does not hold mosaic id: "
+						+ Long.toHexString(mosaicId.getIdAsLong()),
+				mosaicAfter.isPresent());
+		final long amountAfter = mosaicAfter.getAsLong();
 		final Optional<Mosaic> mosaicBefore =
 				intialAccountInfo.getMosaics().stream()
 						.filter(mosaic -> mosaic.getId().getIdAsLong() == mosaicId.getIdAsLong())
 						.findAny();
-		final Mosaic mosaicAfter =
-				newAccountInfo.getMosaics().stream()
-						.filter(mosaic -> mosaic.getId().getIdAsLong() == mosaicId.getIdAsLong())
-						.findAny()
-						.get();
 		if (mosaicBefore.isPresent()) {
 			assertEquals(
 					mosaicBefore.get().getAmount().longValue() + expectedAmountChange,
-					mosaicAfter.getAmount().longValue());
+					amountAfter);
 		} else {
-			assertEquals(expectedAmountChange, mosaicAfter.getAmount().longValue());
+			assertEquals(expectedAmountChange, amountAfter);
 		}
 	}
 
@@ -0,0 +1,288 @@
+/*
+ * Copyright (c) 2016-present,
+ * Jaguar0625, gimre, BloodyRookie, Tech Bureau, Corp. All rights reserved.
+ *
+ * This file is part of Catapult.
+ *
+ * Catapult is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Catapult is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Catapult.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.nem.automationHelpers.helper;
+
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
+import io.nem.automationHelpers.common.CatapultDatabase;
+import io.nem.automationHelpers.common.Log;
+import io.nem.automationHelpers.common.TestContext;
+import io.nem.automationHelpers.config.ConfigFileReader;
+import io.nem.sdk.model.account.Account;
+import io.nem.sdk.model.account.PublicAccount;
+import io.nem.sdk.model.transaction.AggregateTransaction;
+import io.nem.sdk.model.transaction.CosignatureSignedTransaction;
+import io.nem.sdk.model.transaction.TransactionType;
+import org.bouncycastle.util.encoders.Hex;
+import org.bson.Document;
+import org.bson.types.Binary;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+/**
+ * Cosigns aggregate bonded transactions in the background. Scenarios register accounts with a policy, and a shared
+ * thread scans the partial transaction cache and announces the cosignatures of all matching accounts concurrently.
+ */
+public class CosignerHelper {
+	private static final String PARTIAL_TRANSACTIONS_COLLECTION = "partialTransactions";
+	private static final String REGISTRATIONS_KEY = "cosignerRegistrations";
+	private static final List<Registration> registrations = new ArrayList<>();
+	private static final Map<String, AggregateTransaction> partialTransactions = new HashMap<>();
+	private static final Map<String, Set<String>> cosigners = new HashMap<>();
+	private static final Log logger = Log.getLogger("CosignerHelper");
+	private static Thread cosignerThread;
+	private final TestContext testContext;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param testContext Test context.
+	 */
+	public CosignerHelper(final TestContext testContext) {
+		this.testContext = testContext;
+	}
+
+	/**
+	 * Gets a policy which cosigns every partial transaction.
+	 *
+	 * @return Cosign policy.
+	 */
+	public static Predicate<AggregateTransaction> always() {
+		return aggregateTransaction -> true;
+	}
+
+	/**
+	 * Gets a policy which cosigns the partial transactions of a signer.
+	 *
+	 * @param signer Signer of the aggregate transaction.
+	 * @return Cosign policy.
+	 */
+	public static Predicate<AggregateTransaction> signedBy(final PublicAccount signer) {
+		final String signerPublicKey = signer.getPublicKey().toHex();
+		return aggregateTransaction ->
+				aggregateTransaction.getSigner().isPresent()
+						&& signerPublicKey.equalsIgnoreCase(aggregateTransaction.getSigner().get().getPublicKey().toHex());
+	}
+
+	/**
+	 * Gets a policy which cosigns the partial transactions with an inner transaction of a type.
+	 *
+	 * @param transactionType Inner transaction type.
+	 * @return Cosign policy.
+	 */
+	public static Predicate<AggregateTransaction> containsInnerType(final TransactionType transactionType) {
+		return aggregateTransaction ->
+				aggregateTransaction.getInnerTransactions().stream()
+						.anyMatch(transaction -> transactionType == transaction.getType());
+	}
+
+	/**
+	 * Registers an account to cosign the partial transactions matching a policy until the end of the scenario.
+	 *
+	 * @param account Cosigner account.
+	 * @param policy  Cosign policy.
+	 */
+	public void register(final Account account, final Predicate<AggregateTransaction> policy) {
+		final Registration registration = new Registration(account, policy, testContext);
+		List<Registration> scenarioRegistrations = testContext.getScenarioContext().getContext(REGISTRATIONS_KEY);
+		if (null == scenarioRegistrations) {
+			scenarioRegistrations = new ArrayList<>();
+			testContext.getScenarioContext().setContext(REGISTRATIONS_KEY, scenarioRegistrations);
+		}
+		scenarioRegistrations.add(registration);
+		synchronized (registrations) {
+			registrations.add(registration);
+			if (null == cosignerThread) {
+				cosignerThread = new Thread(CosignerHelper::run, "cosigner");
+				cosignerThread.setDaemon(true);
+				cosignerThread.start();
+			}
+			registrations.notifyAll();
+		}
+	}
+
+	/**
+	 * Registers accounts to cosign the partial transactions matching a policy until the end of the scenario.
+	 *
+	 * @param accounts Cosigner accounts.
+	 * @param policy   Cosign policy.
+	 */
+	public void register(final List<Account> accounts, final Predicate<AggregateTransaction> policy) {
+		accounts.forEach(account -> register(account, policy));
+	}
+
+	/**
+	 * Removes the registrations of the scenario.
+	 */
+	public void unregisterAll() {
+		final List<Registration> scenarioRegistrations = testContext.getScenarioContext().getContext(REGISTRATIONS_KEY);
+		if (null == scenarioRegistrations) {
+			return;
+		}
+		testContext.getScenarioContext().setContext(REGISTRATIONS_KEY, null);
+		synchronized (registrations) {
+			registrations.removeAll(scenarioRegistrations);
+		}
+	}
+
+	private static void run() {
+		// The thread outlives the scenarios, so it reads the partial transactions with its own context.
+		final TestContext serviceContext = new TestContext();
+		final ConfigFileReader configFileReader = serviceContext.getConfigFileReader();
+		final CatapultDatabase catapultDatabase = CatapultDatabase.getInstance(configFileReader);
+		while (!Thread.currentThread().isInterrupted()) {
+			final List<Registration> activeRegistrations;
+			try {
+				synchronized (registrations) {
+					while (registrations.isEmpty()) {
+						registrations.wait();
+					}
+					activeRegistrations = new ArrayList<>(registrations);
+				}
+			} catch (final InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+			try {
+				cosignPartialTransactions(serviceContext, catapultDatabase, activeRegistrations);
+			} catch (final RuntimeException e) {
+				logger.LogError("Cosigner scan failed: {}", e.getMessage());
+			}
+			try {
+				Thread.sleep(configFileReader.getCosignerPollIntervalInMilliseconds());
+			} catch (final InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	private static void cosignPartialTransactions(
+			final TestContext serviceContext,
+			final CatapultDatabase catapultDatabase,
+			final List<Registration> activeRegistrations) {
+		final Set<String> hashes = getPartialTransactionHashes(catapultDatabase);
+		partialTransactions.keySet().retainAll(hashes);
+		cosigners.keySet().retainAll(hashes);
+		final TransactionHelper transactionHelper = new TransactionHelper(serviceContext);
+		for (final String hash : hashes) {
+			AggregateTransaction aggregateTransaction = partialTransactions.get(hash);
+			if (null == aggregateTransaction) {
+				try {
+					aggregateTransaction = transactionHelper.getBondedTransaction(hash);
+				} catch (final IllegalArgumentException e) {
+					// Completed or expired since the scan.
+					continue;
+				}
+				partialTransactions.put(hash, aggregateTransaction);
+				cosigners.put(hash, getSigners(aggregateTransaction));
+			}
+			final Set<String> signers = cosigners.get(hash);
+			final Set<String> selectedSigners = new HashSet<>();
+			final Map<TestContext, List<Account>> accountsByContext = new LinkedHashMap<>();
+			for (final Registration registration : activeRegistrations) {
+				final String publicKey = registration.account.getPublicKey().toUpperCase();
+				if (!signers.contains(publicKey)
+						&& registration.policy.test(aggregateTransaction)
+						&& selectedSigners.add(publicKey)) {
+					accountsByContext.computeIfAbsent(registration.testContext, key -> new ArrayList<>())
+							.add(registration.account);
+				}
+			}
+			for (final Map.Entry<TestContext, List<Account>> entry : accountsByContext.entrySet()) {
+				announceCosignatures(entry.getKey(), hash, aggregateTransaction, entry.getValue(), signers);
+			}
+		}
+	}
+
+	private static void announceCosignatures(
+			final TestContext context,
+			final String hash,
+			final AggregateTransaction aggregateTransaction,
+			final List<Account> accounts,
+			final Set<String> signers) {
+		final List<CosignatureSignedTransaction> cosignatureSignedTransactions =
+				new BatchSignHelper(context).signCosignatures(aggregateTransaction, accounts);
+		final TransactionHelper transactionHelper = new TransactionHelper(context);
+		final boolean[] announced = new boolean[accounts.size()];
+		IntStream.range(0, accounts.size()).parallel().forEach(i -> {
+			try {
+				transactionHelper.announceAggregateBondedCosignature(cosignatureSignedTransactions.get(i));
+				announced[i] = true;
+			} catch (final RuntimeException e) {
+				logger.LogError("Cosignature announce failed for bonded tx {}: {}", hash, e.getMessage());
+			}
+		});
+		// Accounts whose cosignature was not announced are retried on the next scan.
+		int announcedCount = 0;
+		for (int i = 0; i < accounts.size(); i++) {
+			if (announced[i]) {
+				signers.add(accounts.get(i).getPublicKey().toUpperCase());
+				announcedCount++;
+			}
+		}
+		context.getLogger().LogInfo("Cosigned bonded tx {} with {} accounts", hash, announcedCount);
+	}
+
+	private static Set<String> getPartialTransactionHashes(final CatapultDatabase catapultDatabase) {
+		final Set<String> hashes = new HashSet<>();
+		for (final Document document :
+				catapultDatabase
+						.getCollection(PARTIAL_TRANSACTIONS_COLLECTION)
+						.find(Filters.exists("meta.aggregateId", false))
+						.projection(Projections.include("meta.hash"))
+						.maxTime(catapultDatabase.getQueryTimeoutInSeconds(), TimeUnit.SECONDS)) {
+			hashes.add(
+					Hex.toHexString(document.get("meta", Document.class).get("hash", Binary.class).getData()).toUpperCase());
+		}
+		return hashes;
+	}
+
+	private static Set<String> getSigners(final AggregateTransaction aggregateTransaction) {
+		final Set<String> signers = new HashSet<>();
+		aggregateTransaction.getSigner().ifPresent(signer -> signers.add(signer.getPublicKey().toHex().toUpperCase()));
+		aggregateTransaction.getCosignatures().forEach(
+				cosignature -> signers.add(cosignature.getSigner().getPublicKey().toHex().toUpperCase()));
+		return signers;
+	}
+
+	/**
+	 * Account registered to cosign.
+	 */
+	private static class Registration {
+		private final Account account;
+		private final Predicate<AggregateTransaction> policy;
+		private final TestContext testContext;
+
+		Registration(final Account account, final Predicate<AggregateTransaction> policy, final TestContext testContext) {
+			this.account = account;
+			this.policy = policy;
+			this.testContext = testContext;
+		}
+	}
+}
@@ -0,0 +1,383 @@
+/*
+ * Copyright (c) 2016-present,
+ * Jaguar0625, gimre, BloodyRookie, Tech Bureau, Corp. All rights reserved.
+ *
+ * This file is part of Catapult.
+ *
+ * Catapult is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Catapult is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Catapult.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.nem.automationHelpers.helper;
+
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
+import io.nem.automationHelpers.common.CatapultDatabase;
+import io.nem.automationHelpers.common.TestContext;
+import io.nem.sdk.model.account.Account;
+import io.nem.sdk.model.account.PublicAccount;
+import io.nem.sdk.model.mosaic.MosaicId;
+import io.nem.sdk.model.mosaic.NetworkCurrencyMosaic;
+import io.nem.sdk.model.namespace.NamespaceId;
+import io.nem.sdk.model.transaction.Transaction;
+import org.apache.commons.lang3.RandomStringUtils;
+import org.bouncycastle.util.encoders.Hex;
+import org.bson.Document;
+import org.bson.types.Binary;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Writes many metadata entries of an account, its mosaics and its namespaces in packed aggregate transactions and
+ * reads them back with a single query. The signer is also the target account, so no cosignatures are needed.
+ */
+public class MetadataBulkHelper {
+	private static final String METADATA_COLLECTION = "metadata";
+	private final TestContext testContext;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param testContext Test context.
+	 */
+	public MetadataBulkHelper(final TestContext testContext) {
+		this.testContext = testContext;
+	}
+
+	/**
+	 * Writes metadata entries. Existing values are read first so the value size delta and the xor value of the
+	 * updates can be computed. If a key is written more than once, the last value wins.
+	 *
+	 * @param account Signer and target account.
+	 * @param entries Metadata entries.
+	 * @return Confirmed transactions.
+	 */
+	public List<Transaction> write(final Account account, final List<MetadataEntry> entries) {
+		final Map<MetadataKey, MetadataEntry> entriesByKey = new LinkedHashMap<>();
+		entries.forEach(entry -> entriesByKey.put(entry.getKey(), entry));
+		final Map<MetadataKey, String> currentValues = getValues(account.getPublicAccount(), entriesByKey.keySet());
+		final PublicAccount target = account.getPublicAccount();
+		final AccountMetadataHelper accountMetadataHelper = new AccountMetadataHelper(testContext);
+		final MosaicMetadataHelper mosaicMetadataHelper = new MosaicMetadataHelper(testContext);
+		final NamespaceMetadataHelper namespaceMetadataHelper = new NamespaceMetadataHelper(testContext);
+		final AggregatePackerHelper aggregatePackerHelper = new AggregatePackerHelper(testContext).alwaysAggregate();
+		int unchangedEntries = 0;
+		for (final MetadataEntry entry : entriesByKey.values()) {
+			final String currentValue = currentValues.getOrDefault(entry.getKey(), "");
+			if (currentValue.equals(entry.getValue())) {
+				unchangedEntries++;
+				continue;
+			}
+			final short valueSizeDelta = (short) (entry.getValue().length() - currentValue.length());
+			final String value = xor(currentValue, entry.getValue());
+			final Transaction transaction;
+			switch (entry.getKey().getTargetType()) {
+				case MOSAIC:
+					transaction = mosaicMetadataHelper.createMosaicMetadataTransaction(
+							target, entry.getKey().getScopedMetadataKey(), new MosaicId(entry.getKey().getTargetId()),
+							valueSizeDelta, value);
+					break;
+				case NAMESPACE:
+					transaction = namespaceMetadataHelper.createNamespaceMetadataTransaction(
+							target, entry.getKey().getScopedMetadataKey(), new NamespaceId(entry.getKey().getTargetId()),
+							valueSizeDelta, value);
+					break;
+				default:
+					transaction = accountMetadataHelper.createAccountMetadataTransaction(
+							target, entry.getKey().getScopedMetadataKey(), valueSizeDelta, value);
+					break;
+			}
+			aggregatePackerHelper.add(account, transaction);
+		}
+		testContext.getLogger().LogInfo("Writing {} metadata entries, {} unchanged", entriesByKey.size(), unchangedEntries);
+		return aggregatePackerHelper.submitAndWait();
+	}
+
+	/**
+	 * Verifies metadata entries with a single query.
+	 *
+	 * @param account Source and target account.
+	 * @param entries Expected metadata entries.
+	 */
+	public void verify(final Account account, final List<MetadataEntry> entries) {
+		final Map<MetadataKey, MetadataEntry> entriesByKey = new LinkedHashMap<>();
+		entries.forEach(entry -> entriesByKey.put(entry.getKey(), entry));
+		final Map<MetadataKey, String> values = getValues(account.getPublicAccount(), entriesByKey.keySet());
+		final List<String> mismatches =
+				entriesByKey.values().stream()
+						.filter(entry -> !entry.getValue().equals(values.get(entry.getKey())))
+						.map(entry -> entry.getKey() + " expected: " + entry.getValue() + " actual: " + values.get(entry.getKey()))
+						.collect(Collectors.toList());
+		if (!mismatches.isEmpty()) {
+			throw new AssertionError(
+					mismatches.size() + " of " + entriesByKey.size() + " metadata entries do not match: "
+							+ String.join(", ", mismatches.subList(0, Math.min(10, mismatches.size()))));
+		}
+	}
+
+	/**
+	 * Gets the current values of metadata entries with a single query.
+	 *
+	 * @param publicAccount Source and target account.
+	 * @param keys          Metadata keys.
+	 * @return Values of the keys which exist.
+	 */
+	public Map<MetadataKey, String> getValues(final PublicAccount publicAccount, final Set<MetadataKey> keys) {
+		final Map<MetadataKey, String> values = new HashMap<>(keys.size());
+		if (keys.isEmpty()) {
+			return values;
+		}
+		final Binary publicKey = new Binary(Hex.decode(publicAccount.getPublicKey().toHex()));
+		final List<Long> scopedMetadataKeys =
+				keys.stream().map(key -> key.getScopedMetadataKey().longValue()).distinct().collect(Collectors.toList());
+		final CatapultDatabase catapultDatabase = CatapultDatabase.getInstance(testContext.getConfigFileReader());
+		for (final Document document :
+				catapultDatabase
+						.getCollection(METADATA_COLLECTION)
+						.find(
+								Filters.and(
+										Filters.eq("metadataEntry.sourcePublicKey", publicKey),
+										Filters.eq("metadataEntry.targetPublicKey", publicKey),
+										Filters.in("metadataEntry.scopedMetadataKey", scopedMetadataKeys)))
+						.projection(
+								Projections.include(
+										"metadataEntry.scopedMetadataKey",
+										"metadataEntry.targetId",
+										"metadataEntry.metadataType",
+										"metadataEntry.value"))
+						.maxTime(catapultDatabase.getQueryTimeoutInSeconds(), TimeUnit.SECONDS)) {
+			final Document metadataEntry = document.get("metadataEntry", Document.class);
+			final MetadataKey key =
+					new MetadataKey(
+							TargetType.values()[((Number) metadataEntry.get("metadataType")).intValue()],
+							((Number) metadataEntry.get("targetId")).longValue(),
+							((Number) metadataEntry.get("scopedMetadataKey")).longValue());
+			if (keys.contains(key)) {
+				values.put(key, new String(metadataEntry.get("value", Binary.class).getData(), StandardCharsets.US_ASCII));
+			}
+		}
+		return values;
+	}
+
+	/**
+	 * Writes a number of account metadata keys to a new account, verifies them, overwrites all of them with new
+	 * values and verifies again.
+	 *
+	 * @param args Number of keys and optional value size.
+	 */
+	public static void main(final String[] args) {
+		if (args.length < 1) {
+			System.out.println("Usage: MetadataBulkHelper <number of keys> [value size]");
+			return;
+		}
+		final int numberOfKeys = Integer.parseInt(args[0]);
+		final int valueSize = args.length > 1 ? Integer.parseInt(args[1]) : 16;
+		final TestContext testContext = new TestContext();
+		final MetadataBulkHelper metadataBulkHelper = new MetadataBulkHelper(testContext);
+		final Account account =
+				new AccountHelper(testContext)
+						.createAccountWithAsset(NetworkCurrencyMosaic.createRelative(BigInteger.valueOf(1000)));
+		for (final String phase : Arrays.asList("create", "update")) {
+			final List<MetadataEntry> entries = new ArrayList<>(numberOfKeys);
+			for (int i = 0; i < numberOfKeys; i++) {
+				entries.add(
+						MetadataEntry.forAccount(BigInteger.valueOf(i + 1), RandomStringUtils.randomAlphanumeric(valueSize)));
+			}
+			final long startTime = System.nanoTime();
+			final int transactionCount = metadataBulkHelper.write(account, entries).size();
+			final long writeTimeInMilliseconds = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+			metadataBulkHelper.verify(account, entries);
+			final long verifyTimeInMilliseconds =
+					TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime) - writeTimeInMilliseconds;
+			testContext.getLogger().LogInfo(
+					"Metadata {}: {} keys in {} aggregates written in {} ms, verified in {} ms",
+					phase, numberOfKeys, transactionCount, writeTimeInMilliseconds, verifyTimeInMilliseconds);
+		}
+	}
+
+	/**
+	 * Gets the value of a metadata update, which is the xor of the current and the new value padded with zeros.
+	 * Values are ascii so the xor is ascii as well and encodes to the same bytes.
+	 *
+	 * @param currentValue Current value.
+	 * @param newValue     New value.
+	 * @return Update value.
+	 */
+	private static String xor(final String currentValue, final String newValue) {
+		final int length = Math.max(currentValue.length(), newValue.length());
+		final StringBuilder value = new StringBuilder(length);
+		for (int i = 0; i < length; i++) {
+			final char current = i < currentValue.length() ? currentValue.charAt(i) : 0;
+			final char next = i < newValue.length() ? newValue.charAt(i) : 0;
+			value.append((char) (current ^ next));
+		}
+		return value.toString();
+	}
+
+	/**
+	 * Metadata target type.
+	 */
+	public enum TargetType {
+		ACCOUNT,
+		MOSAIC,
+		NAMESPACE
+	}
+
+	/**
+	 * Metadata key of an entry: target type, target id and scoped metadata key.
+	 */
+	public static class MetadataKey {
+		private final TargetType targetType;
+		private final long targetId;
+		private final long scopedMetadataKey;
+
+		MetadataKey(final TargetType targetType, final long targetId, final long scopedMetadataKey) {
+			this.targetType = targetType;
+			this.targetId = targetId;
+			this.scopedMetadataKey = scopedMetadataKey;
+		}
+
+		/**
+		 * Gets the target type.
+		 *
+		 * @return Target type.
+		 */
+		public TargetType getTargetType() {
+			return targetType;
+		}
+
+		/**
+		 * Gets the target id. It is 0 for account metadata.
+		 *
+		 * @return Target id.
+		 */
+		public BigInteger getTargetId() {
+			return new BigInteger(Long.toUnsignedString(targetId));
+		}
+
+		/**
+		 * Gets the scoped metadata key.
+		 *
+		 * @return Scoped metadata key.
+		 */
+		public BigInteger getScopedMetadataKey() {
+			return new BigInteger(Long.toUnsignedString(scopedMetadataKey));
+		}
+
+		@Override
+		public boolean equals(final Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (!(o instanceof MetadataKey)) {
+				return false;
+			}
+			final MetadataKey metadataKey = (MetadataKey) o;
+			return targetType == metadataKey.targetType
+					&& targetId == metadataKey.targetId
+					&& scopedMetadataKey == metadataKey.scopedMetadataKey;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(targetType, targetId, scopedMetadataKey);
+		}
+
+		@Override
+		public String toString() {
+			return targetType + ":" + Long.toHexString(targetId) + ":" + Long.toHexString(scopedMetadataKey);
+		}
+	}
+
+	/**
+	 * Metadata entry to write or verify.
+	 */
+	public static class MetadataEntry {
+		private final MetadataKey key;
+		private final String value;
+
+		private MetadataEntry(final MetadataKey key, final String value) {
+			if (!StandardCharsets.US_ASCII.newEncoder().canEncode(value)) {
+				throw new IllegalArgumentException("Metadata value must be ascii: " + value);
+			}
+			this.key = key;
+			this.value = value;
+		}
+
+		/**
+		 * Creates an account metadata entry.
+		 *
+		 * @param scopedMetadataKey Scoped metadata key.
+		 * @param value             Value.
+		 * @return Metadata entry.
+		 */
+		public static MetadataEntry forAccount(final BigInteger scopedMetadataKey, final String value) {
+			return new MetadataEntry(new MetadataKey(TargetType.ACCOUNT, 0, scopedMetadataKey.longValue()), value);
+		}
+
+		/**
+		 * Creates a mosaic metadata entry.
+		 *
+		 * @param mosaicId          Mosaic id.
+		 * @param scopedMetadataKey Scoped metadata key.
+		 * @param value             Value.
+		 * @return Metadata entry.
+		 */
+		public static MetadataEntry forMosaic(final MosaicId mosaicId, final BigInteger scopedMetadataKey, final String value) {
+			return new MetadataEntry(
+					new MetadataKey(TargetType.MOSAIC, mosaicId.getIdAsLong(), scopedMetadataKey.longValue()), value);
+		}
+
+		/**
+		 * Creates a namespace metadata entry.
+		 *
+		 * @param namespaceId       Namespace id.
+		 * @param scopedMetadataKey Scoped metadata key.
+		 * @param value             Value.
+		 * @return Metadata entry.
+		 */
+		public static MetadataEntry forNamespace(
+				final NamespaceId namespaceId, final BigInteger scopedMetadataKey, final String value) {
+			return new MetadataEntry(
+					new MetadataKey(TargetType.NAMESPACE, namespaceId.getIdAsLong(), scopedMetadataKey.longValue()), value);
+		}
+
+		/**
+		 * Gets the metadata key.
+		 *
+		 * @return Metadata key.
+		 */
+		public MetadataKey getKey() {
+			return key;
+		}
+
+		/**
+		 * Gets the value.
+		 *
+		 * @return Value.
+		 */
+		public String getValue() {
+			return value;
+		}
+	}
+}
@@ -31,7 +31,11 @@ import io.nem.sdk.model.namespace.NamespaceId;
 import io.nem.sdk.model.transaction.*;
 
 import java.math.BigInteger;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Supplier;
 
 /**
@@ -125,8 +129,15 @@ public class MosaicHelper {
 		return CommonHelper.appendCommonPropertiesAndBuildTransaction(mosaicSupplyChangeTransactionFactory, deadline, maxFee);
 	}
 
-
-	private MosaicSupplyChangeTransaction createMosaicSupplyChangeTransaction(
+	/**
+	 * Creates a mosaic supply change transaction.
+	 *
+	 * @param mosaicId                     Mosaic id.
+	 * @param mosaicSupplyChangeActionType Supply change action.
+	 * @param delta                        Delta change.
+	 * @return Mosaic supply change transaction.
+	 */
+	public MosaicSupplyChangeTransaction createMosaicSupplyChangeTransaction(
 			final MosaicId mosaicId, MosaicSupplyChangeActionType mosaicSupplyChangeActionType, BigInteger delta) {
 		return createMosaicSupplyChangeTransaction(
 				TransactionHelper.getDefaultDeadline(),
@@ -319,6 +330,28 @@ public class MosaicHelper {
 				});
 	}
 
+	/**
+	 * Gets the info for a list of mosaic ids in a single query.
+	 *
+	 * @param mosaicIds Mosaic ids.
+	 * @return Mosaic info in the order of the mosaic ids.
+	 */
+	public List<MosaicInfo> getMosaics(final List<MosaicId> mosaicIds) {
+		final List<MosaicInfo> mosaicInfos = ExceptionUtils.propagate(
+				() -> new MosaicsDao(testContext.getCatapultContext()).getMosaics(mosaicIds).toFuture().get());
+		final Map<Long, MosaicInfo> mosaicInfosById = new HashMap<>(mosaicInfos.size());
+		mosaicInfos.forEach(mosaicInfo -> mosaicInfosById.put(mosaicInfo.getMosaicId().getIdAsLong(), mosaicInfo));
+		final List<MosaicInfo> orderedMosaicInfos = new ArrayList<>(mosaicIds.size());
+		for (final MosaicId mosaicId : mosaicIds) {
+			final MosaicInfo mosaicInfo = mosaicInfosById.get(mosaicId.getIdAsLong());
+			if (null == mosaicInfo) {
+				throw new IllegalArgumentException("Mosaic " + Long.toHexString(mosaicId.getIdAsLong()) + " was not found");
+			}
+			orderedMosaicInfos.add(mosaicInfo);
+		}
+		return orderedMosaicInfos;
+	}
+
 	/**
 	 * Get the mosaic for namespace id.
 	 *
@@ -59,7 +59,17 @@ public class MosaicMetadataHelper {
         mosaicMetadataTransactionFactory, deadline, maxFee);
   }
 
-  private MosaicMetadataTransaction createMosaicMetadataTransaction(
+  /**
+   * Creates a mosaic metadata transaction.
+   *
+   * @param targetPublicAccount Target public account.
+   * @param scopedMetadataKey Scoped meta data Key.
+   * @param mosaicId Mosaic id.
+   * @param valueSizeDelta Value size delta.
+   * @param value Metadata value.
+   * @return Mosaic metadata transaction.
+   */
+  public MosaicMetadataTransaction createMosaicMetadataTransaction(
       final PublicAccount targetPublicAccount,
       final BigInteger scopedMetadataKey,
       final UnresolvedMosaicId mosaicId,
@@ -0,0 +1,221 @@
+/*
+ * Copyright (c) 2016-present,
+ * Jaguar0625, gimre, BloodyRookie, Tech Bureau, Corp. All rights reserved.
+ *
+ * This file is part of Catapult.
+ *
+ * Catapult is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Catapult is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Catapult.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.nem.automationHelpers.helper;
+
+import io.nem.automationHelpers.common.TestContext;
+import io.nem.sdk.model.account.Account;
+import io.nem.sdk.model.mosaic.MosaicFlags;
+import io.nem.sdk.model.mosaic.MosaicId;
+import io.nem.sdk.model.mosaic.MosaicInfo;
+import io.nem.sdk.model.mosaic.MosaicSupplyChangeActionType;
+import io.nem.sdk.model.transaction.MosaicDefinitionTransaction;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Pool of mosaics minted ahead of time by the default signer. Mosaics are grouped by flags, divisibility and
+ * duration, minted in bulk aggregate transactions and handed out once.
+ */
+public class MosaicPoolHelper {
+	private static final BigInteger INITIAL_SUPPLY = BigInteger.valueOf(10);
+	private static final Map<PoolKey, Queue<MosaicInfo>> pools = new ConcurrentHashMap<>();
+	private final TestContext testContext;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param testContext Test context.
+	 */
+	public MosaicPoolHelper(final TestContext testContext) {
+		this.testContext = testContext;
+	}
+
+	/**
+	 * Takes a mosaic from the pool.
+	 *
+	 * @param mosaicFlags  Mosaic flags.
+	 * @param divisibility Divisibility.
+	 * @param duration     Duration.
+	 * @return Mosaic info.
+	 */
+	public MosaicInfo take(final MosaicFlags mosaicFlags, final int divisibility, final BigInteger duration) {
+		return take(mosaicFlags, divisibility, duration, 1).get(0);
+	}
+
+	/**
+	 * Takes mosaics from the pool. Missing mosaics are minted together with a refill of the pool.
+	 *
+	 * @param mosaicFlags  Mosaic flags.
+	 * @param divisibility Divisibility.
+	 * @param duration     Duration.
+	 * @param count        Number of mosaics.
+	 * @return List of mosaic info.
+	 */
+	public List<MosaicInfo> take(
+			final MosaicFlags mosaicFlags, final int divisibility, final BigInteger duration, final int count) {
+		final PoolKey poolKey = new PoolKey(mosaicFlags, divisibility, duration);
+		final Queue<MosaicInfo> pool = pools.computeIfAbsent(poolKey, key -> new ConcurrentLinkedQueue<>());
+		final long height =
+				0 == duration.signum() ? 0 : new BlockChainHelper(testContext).getBlockchainHeight().longValue();
+		final List<MosaicInfo> mosaics = new ArrayList<>(count);
+		MosaicInfo mosaicInfo;
+		while (mosaics.size() < count && null != (mosaicInfo = pool.poll())) {
+			if (isActive(mosaicInfo, height)) {
+				mosaics.add(mosaicInfo);
+			}
+		}
+		if (mosaics.size() < count) {
+			final int missing = count - mosaics.size();
+			final List<MosaicInfo> mintedMosaics =
+					mint(
+							testContext.getDefaultSignerAccount(),
+							mosaicFlags,
+							divisibility,
+							duration,
+							INITIAL_SUPPLY,
+							missing + testContext.getConfigFileReader().getMosaicPoolBatchSize());
+			mosaics.addAll(mintedMosaics.subList(0, missing));
+			pool.addAll(mintedMosaics.subList(missing, mintedMosaics.size()));
+		}
+		return mosaics;
+	}
+
+	/**
+	 * Mints mosaics in packed aggregate transactions. The aggregates are announced together so they are confirmed in
+	 * the same blocks.
+	 *
+	 * @param owner         Owner account.
+	 * @param mosaicFlags   Mosaic flags.
+	 * @param divisibility  Divisibility.
+	 * @param duration      Duration.
+	 * @param initialSupply Initial supply.
+	 * @param count         Number of mosaics.
+	 * @return List of mosaic info.
+	 */
+	public List<MosaicInfo> mint(
+			final Account owner,
+			final MosaicFlags mosaicFlags,
+			final int divisibility,
+			final BigInteger duration,
+			final BigInteger initialSupply,
+			final int count) {
+		return mint(owner, () -> mosaicFlags, () -> divisibility, duration, initialSupply, count);
+	}
+
+	/**
+	 * Mints mosaics with their own flags and divisibility in packed aggregate transactions. The aggregates are
+	 * announced together so they are confirmed in the same blocks.
+	 *
+	 * @param owner         Owner account.
+	 * @param mosaicFlags   Gets the flags of each mosaic.
+	 * @param divisibility  Gets the divisibility of each mosaic.
+	 * @param duration      Duration.
+	 * @param initialSupply Initial supply.
+	 * @param count         Number of mosaics.
+	 * @return List of mosaic info.
+	 */
+	public List<MosaicInfo> mint(
+			final Account owner,
+			final Supplier<MosaicFlags> mosaicFlags,
+			final IntSupplier divisibility,
+			final BigInteger duration,
+			final BigInteger initialSupply,
+			final int count) {
+		testContext.getLogger().LogInfo("Minting {} mosaics in aggregate transactions", count);
+		final MosaicHelper mosaicHelper = new MosaicHelper(testContext);
+		final AggregatePackerHelper aggregatePackerHelper = new AggregatePackerHelper(testContext);
+		final List<MosaicDefinitionTransaction> definitions = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			final MosaicDefinitionTransaction mosaicDefinitionTransaction =
+					0 == duration.signum()
+							? mosaicHelper.createMosaicDefinitionTransaction(
+									owner, mosaicFlags.get(), divisibility.getAsInt())
+							: mosaicHelper.createExpiringMosaicDefinitionTransaction(
+									owner, mosaicFlags.get(), divisibility.getAsInt(), duration);
+			definitions.add(mosaicDefinitionTransaction);
+			aggregatePackerHelper.add(
+					owner,
+					Arrays.asList(
+							mosaicDefinitionTransaction,
+							mosaicHelper.createMosaicSupplyChangeTransaction(
+									mosaicDefinitionTransaction.getMosaicId(),
+									MosaicSupplyChangeActionType.INCREASE,
+									initialSupply)));
+		}
+		final AsyncSetupHelper asyncSetupHelper = new AsyncSetupHelper(testContext);
+		aggregatePackerHelper.announce(asyncSetupHelper);
+		asyncSetupHelper.await();
+		final List<MosaicId> mosaicIds = new ArrayList<>(count);
+		definitions.forEach(definition -> mosaicIds.add(definition.getMosaicId()));
+		return mosaicHelper.getMosaics(mosaicIds);
+	}
+
+	private static boolean isActive(final MosaicInfo mosaicInfo, final long height) {
+		return 0 == mosaicInfo.getDuration().signum()
+				|| mosaicInfo.getStartHeight().longValue() + mosaicInfo.getDuration().longValue() > height;
+	}
+
+	/**
+	 * Properties shared by the mosaics of a pool.
+	 */
+	private static class PoolKey {
+		private final boolean supplyMutable;
+		private final boolean transferable;
+		private final int divisibility;
+		private final BigInteger duration;
+
+		PoolKey(final MosaicFlags mosaicFlags, final int divisibility, final BigInteger duration) {
+			this.supplyMutable = mosaicFlags.isSupplyMutable();
+			this.transferable = mosaicFlags.isTransferable();
+			this.divisibility = divisibility;
+			this.duration = duration;
+		}
+
+		@Override
+		public boolean equals(final Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (!(o instanceof PoolKey)) {
+				return false;
+			}
+			final PoolKey poolKey = (PoolKey) o;
+			return supplyMutable == poolKey.supplyMutable
+					&& transferable == poolKey.transferable
+					&& divisibility == poolKey.divisibility
+					&& duration.equals(poolKey.duration);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(supplyMutable, transferable, divisibility, duration);
+		}
+	}
+}
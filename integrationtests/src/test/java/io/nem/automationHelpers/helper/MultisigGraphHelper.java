@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2016-present,
+ * Jaguar0625, gimre, BloodyRookie, Tech Bureau, Corp. All rights reserved.
+ *
+ * This file is part of Catapult.
+ *
+ * Catapult is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Catapult is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Catapult.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.nem.automationHelpers.helper;
+
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
+import io.nem.automationHelpers.common.CatapultDatabase;
+import io.nem.automationHelpers.common.MultisigGraph;
+import io.nem.automationHelpers.common.TestContext;
+import io.nem.core.utils.ConvertUtils;
+import io.nem.sdk.model.account.PublicAccount;
+import org.bson.Document;
+import org.bson.types.Binary;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Loads multisig subgraphs breadth first with one query per level.
+ * Loaded accounts are shared between scenarios until the chain height changes.
+ */
+public class MultisigGraphHelper {
+	private static final String MULTISIGS_COLLECTION = "multisigs";
+	private static final Map<String, MultisigGraph.Entry> cachedEntries = new HashMap<>();
+	private static final Set<String> cachedKeys = new HashSet<>();
+	private static BigInteger cachedHeight = BigInteger.ZERO;
+	private final TestContext testContext;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param testContext Test context.
+	 */
+	public MultisigGraphHelper(final TestContext testContext) {
+		this.testContext = testContext;
+	}
+
+	/**
+	 * Gets the multisig graph reachable from a set of accounts.
+	 *
+	 * @param publicAccounts Root accounts.
+	 * @return Multisig graph.
+	 */
+	public MultisigGraph getMultisigGraph(final Collection<PublicAccount> publicAccounts) {
+		final List<String> roots = new ArrayList<>(publicAccounts.size());
+		publicAccounts.forEach(publicAccount -> roots.add(MultisigGraph.toKey(publicAccount.getPublicKey().toHex())));
+		final BigInteger height = new BlockChainHelper(testContext).getBlockchainHeight();
+		synchronized (cachedEntries) {
+			if (!height.equals(cachedHeight)) {
+				cachedEntries.clear();
+				cachedKeys.clear();
+				cachedHeight = height;
+			}
+			final Map<String, MultisigGraph.Entry> entries = new HashMap<>();
+			final Set<String> visited = new HashSet<>();
+			List<String> level = roots;
+			while (!level.isEmpty()) {
+				final List<String> missingKeys = new ArrayList<>();
+				level.forEach(key -> {
+					if (visited.add(key) && !cachedKeys.contains(key)) {
+						missingKeys.add(key);
+					}
+				});
+				loadEntries(missingKeys);
+				final List<String> nextLevel = new ArrayList<>();
+				for (final String key : level) {
+					final MultisigGraph.Entry entry = cachedEntries.get(key);
+					if (null != entry && !entries.containsKey(key)) {
+						entries.put(key, entry);
+						entry.getCosignatories().stream().filter(cosignatory -> !visited.contains(cosignatory))
+								.forEach(nextLevel::add);
+					}
+				}
+				level = nextLevel;
+			}
+			return new MultisigGraph(entries);
+		}
+	}
+
+	private void loadEntries(final List<String> keys) {
+		if (keys.isEmpty()) {
+			return;
+		}
+		final List<Binary> binaryKeys = new ArrayList<>(keys.size());
+		keys.forEach(key -> binaryKeys.add(new Binary(ConvertUtils.getBytes(key))));
+		final CatapultDatabase catapultDatabase = testContext.getCatapultDatabase();
+		for (final Document document :
+				catapultDatabase.getCollection(MULTISIGS_COLLECTION)
+						.find(Filters.in("multisig.accountPublicKey", binaryKeys))
+						.projection(
+								Projections.fields(
+										Projections.excludeId(),
+										Projections.include(
+												"multisig.accountPublicKey",
+												"multisig.minApproval",
+												"multisig.minRemoval",
+												"multisig.cosignatoryPublicKeys")))
+						.maxTime(catapultDatabase.getQueryTimeoutInSeconds(), TimeUnit.SECONDS)) {
+			final Document multisig = document.get("multisig", Document.class);
+			final List<Binary> cosignatoryPublicKeys = multisig.getList("cosignatoryPublicKeys", Binary.class);
+			if (cosignatoryPublicKeys.isEmpty()) {
+				continue;
+			}
+			final List<String> cosignatories = new ArrayList<>(cosignatoryPublicKeys.size());
+			cosignatoryPublicKeys.forEach(
+					publicKey -> cosignatories.add(MultisigGraph.toKey(ConvertUtils.toHex(publicKey.getData()))));
+			final String key =
+					MultisigGraph.toKey(ConvertUtils.toHex(multisig.get("accountPublicKey", Binary.class).getData()));
+			cachedEntries.put(
+					key,
+					new MultisigGraph.Entry(
+							((Number) multisig.get("minApproval")).intValue(),
+							((Number) multisig.get("minRemoval")).intValue(),
+							cosignatories));
+		}
+		cachedKeys.addAll(keys);
+	}
+}
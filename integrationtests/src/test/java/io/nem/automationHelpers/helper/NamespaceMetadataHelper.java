@@ -64,7 +64,17 @@ public class NamespaceMetadataHelper {
 		return CommonHelper.appendCommonPropertiesAndBuildTransaction(namespaceMetadataTransactionFactory, deadline, maxFee);
 	}
 
-	private NamespaceMetadataTransaction createNamespaceMetadataTransaction(
+	/**
+	 * Creates a namespace metadata transaction.
+	 *
+	 * @param targetPublicAccount Target public account.
+	 * @param scopedMetadataKey   Scoped meta data Key.
+	 * @param namespaceId         Namespace id.
+	 * @param valueSizeDelta      Value size delta.
+	 * @param value               Metadata value.
+	 * @return Namespace metadata transaction.
+	 */
+	public NamespaceMetadataTransaction createNamespaceMetadataTransaction(
 			final PublicAccount targetPublicAccount,
 			final BigInteger scopedMetadataKey,
 			final NamespaceId namespaceId,
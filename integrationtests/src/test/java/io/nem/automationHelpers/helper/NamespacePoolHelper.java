@@ -0,0 +1,281 @@
+/*
+ * Copyright (c) 2016-present,
+ * Jaguar0625, gimre, BloodyRookie, Tech Bureau, Corp. All rights reserved.
+ *
+ * This file is part of Catapult.
+ *
+ * Catapult is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Catapult is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Catapult.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.nem.automationHelpers.helper;
+
+import com.mongodb.MongoException;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
+import io.nem.automationHelpers.common.CatapultDatabase;
+import io.nem.automationHelpers.common.TestContext;
+import io.nem.sdk.model.account.Account;
+import io.nem.sdk.model.namespace.NamespaceId;
+import io.nem.sdk.model.transaction.AggregateTransaction;
+import io.nem.sdk.model.transaction.NamespaceRegistrationTransaction;
+import io.nem.sdk.model.transaction.Transaction;
+import org.bouncycastle.util.encoders.Hex;
+import org.bson.Document;
+import org.bson.types.Binary;
+
+import java.math.BigInteger;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Pool of root namespaces registered ahead of time in packed aggregate transactions and leased to scenarios.
+ * Leases are returned at the end of the scenario if the namespace has no alias, and namespaces close to their
+ * expiry height are extended together before they are leased again.
+ */
+public class NamespacePoolHelper {
+	private static final String NAMESPACES_COLLECTION = "namespaces";
+	private static final String LEASES_KEY = "namespacePoolLeases";
+	private static final Map<String, Deque<PooledNamespace>> pools = new HashMap<>();
+	private final TestContext testContext;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param testContext Test context.
+	 */
+	public NamespacePoolHelper(final TestContext testContext) {
+		this.testContext = testContext;
+	}
+
+	/**
+	 * Leases a root namespace owned by an account. The lease is returned to the pool by {@link #releaseLeases()}.
+	 *
+	 * @param owner Owner account.
+	 * @return Leased namespace.
+	 */
+	public PooledNamespace lease(final Account owner) {
+		final long height = new BlockChainHelper(testContext).getBlockchainHeight().longValue();
+		final long minimumExpiryHeight =
+				height + testContext.getConfigFileReader().getNamespacePoolMinimumRemainingBlocks();
+		final List<PooledNamespace> expiringNamespaces = new ArrayList<>();
+		PooledNamespace pooledNamespace = null;
+		synchronized (pools) {
+			final Deque<PooledNamespace> pool = getPool(owner.getPublicKey());
+			while (null == pooledNamespace && !pool.isEmpty()) {
+				final PooledNamespace candidate = pool.poll();
+				if (candidate.getExpiryHeight() >= minimumExpiryHeight) {
+					pooledNamespace = candidate;
+				} else {
+					expiringNamespaces.add(candidate);
+				}
+			}
+		}
+		final List<PooledNamespace> registeredNamespaces = new ArrayList<>();
+		if (!expiringNamespaces.isEmpty()) {
+			registeredNamespaces.addAll(
+					register(owner, expiringNamespaces.stream().map(PooledNamespace::getName).collect(Collectors.toList())));
+		}
+		if (null == pooledNamespace && registeredNamespaces.isEmpty()) {
+			final int batchSize = testContext.getConfigFileReader().getNamespacePoolBatchSize();
+			final List<String> names = new ArrayList<>(batchSize);
+			for (int i = 0; i < batchSize; i++) {
+				names.add(CommonHelper.getRandomNamespaceName("pool"));
+			}
+			registeredNamespaces.addAll(register(owner, names));
+		}
+		if (null == pooledNamespace) {
+			pooledNamespace = registeredNamespaces.remove(0);
+		}
+		synchronized (pools) {
+			getPool(owner.getPublicKey()).addAll(registeredNamespaces);
+		}
+		List<PooledNamespace> leases = testContext.getScenarioContext().getContext(LEASES_KEY);
+		if (null == leases) {
+			leases = new ArrayList<>();
+			testContext.getScenarioContext().setContext(LEASES_KEY, leases);
+		}
+		leases.add(pooledNamespace);
+		return pooledNamespace;
+	}
+
+	/**
+	 * Returns the namespaces leased by the scenario to the pool. Namespaces that have an alias or changed owner
+	 * are dropped.
+	 */
+	public void releaseLeases() {
+		final List<PooledNamespace> leases = testContext.getScenarioContext().getContext(LEASES_KEY);
+		if (null == leases || leases.isEmpty()) {
+			return;
+		}
+		testContext.getScenarioContext().setContext(LEASES_KEY, null);
+		try {
+			final Map<Long, Document> states = getNamespaceStates(leases);
+			final int gracePeriod = testContext.getConfigFileReader().getNamespaceGracePeriodInBlocks();
+			for (final PooledNamespace lease : leases) {
+				final Document namespace = states.get(lease.getNamespaceId().getIdAsLong());
+				if (null == namespace
+						|| 0 != ((Number) namespace.get("alias", Document.class).get("type")).intValue()
+						|| !lease.getOwnerPublicKey().equalsIgnoreCase(
+						Hex.toHexString(namespace.get("ownerPublicKey", Binary.class).getData()))) {
+					continue;
+				}
+				lease.expiryHeight = ((Number) namespace.get("endHeight")).longValue() - gracePeriod;
+				synchronized (pools) {
+					getPool(lease.getOwnerPublicKey()).add(lease);
+				}
+			}
+		} catch (final MongoException e) {
+			testContext.getLogger().LogError("Could not return namespace leases: {}", e.getMessage());
+		}
+	}
+
+	private static Deque<PooledNamespace> getPool(final String ownerPublicKey) {
+		return pools.computeIfAbsent(ownerPublicKey.toUpperCase(), key -> new ArrayDeque<>());
+	}
+
+	private List<PooledNamespace> register(final Account owner, final List<String> names) {
+		testContext.getLogger().LogInfo("Registering {} pool namespaces in aggregate transactions", names.size());
+		final NamespaceHelper namespaceHelper = new NamespaceHelper(testContext);
+		final BigInteger duration =
+				BigInteger.valueOf(testContext.getConfigFileReader().getNamespacePoolDurationInBlocks());
+		final AggregatePackerHelper aggregatePackerHelper = new AggregatePackerHelper(testContext);
+		names.forEach(
+				name -> aggregatePackerHelper.add(owner, namespaceHelper.createRootNamespaceTransaction(name, duration)));
+		final List<PooledNamespace> pooledNamespaces = new ArrayList<>(names.size());
+		for (final Transaction transaction : aggregatePackerHelper.submitAndWait()) {
+			final long expiryHeight = transaction.getTransactionInfo().get().getHeight().add(duration).longValue();
+			final List<Transaction> registrations =
+					transaction instanceof AggregateTransaction
+							? ((AggregateTransaction) transaction).getInnerTransactions()
+							: Collections.singletonList(transaction);
+			registrations.forEach(
+					registration ->
+							pooledNamespaces.add(
+									new PooledNamespace(
+											(NamespaceRegistrationTransaction) registration, owner.getPublicKey(), expiryHeight)));
+		}
+		// Renewals extend the existing expiry, so read it back instead of computing it.
+		final Map<Long, Document> states = getNamespaceStates(pooledNamespaces);
+		final int gracePeriod = testContext.getConfigFileReader().getNamespaceGracePeriodInBlocks();
+		pooledNamespaces.forEach(pooledNamespace -> {
+			final Document namespace = states.get(pooledNamespace.getNamespaceId().getIdAsLong());
+			if (null != namespace) {
+				pooledNamespace.expiryHeight = ((Number) namespace.get("endHeight")).longValue() - gracePeriod;
+			}
+		});
+		return pooledNamespaces;
+	}
+
+	private Map<Long, Document> getNamespaceStates(final List<PooledNamespace> pooledNamespaces) {
+		final CatapultDatabase catapultDatabase = CatapultDatabase.getInstance(testContext.getConfigFileReader());
+		final List<Long> ids =
+				pooledNamespaces.stream().map(pooled -> pooled.getNamespaceId().getIdAsLong()).collect(Collectors.toList());
+		final Map<Long, Document> states = new HashMap<>(ids.size());
+		for (final Document document :
+				catapultDatabase
+						.getCollection(NAMESPACES_COLLECTION)
+						.find(
+								Filters.and(
+										Filters.in("namespace.level0", ids),
+										Filters.eq("namespace.depth", 1),
+										Filters.eq("meta.active", true)))
+						.projection(
+								Projections.include(
+										"namespace.level0",
+										"namespace.ownerPublicKey",
+										"namespace.endHeight",
+										"namespace.alias.type"))
+						.maxTime(catapultDatabase.getQueryTimeoutInSeconds(), TimeUnit.SECONDS)) {
+			final Document namespace = document.get("namespace", Document.class);
+			states.put(((Number) namespace.get("level0")).longValue(), namespace);
+		}
+		return states;
+	}
+
+	/**
+	 * Namespace of the pool.
+	 */
+	public static class PooledNamespace {
+		private final NamespaceRegistrationTransaction registrationTransaction;
+		private final String ownerPublicKey;
+		private volatile long expiryHeight;
+
+		/**
+		 * Constructor.
+		 *
+		 * @param registrationTransaction Confirmed registration transaction.
+		 * @param ownerPublicKey          Owner public key.
+		 * @param expiryHeight            Height after which the namespace is in its grace period.
+		 */
+		PooledNamespace(
+				final NamespaceRegistrationTransaction registrationTransaction,
+				final String ownerPublicKey,
+				final long expiryHeight) {
+			this.registrationTransaction = registrationTransaction;
+			this.ownerPublicKey = ownerPublicKey;
+			this.expiryHeight = expiryHeight;
+		}
+
+		/**
+		 * Gets the namespace name.
+		 *
+		 * @return Namespace name.
+		 */
+		public String getName() {
+			return registrationTransaction.getNamespaceName();
+		}
+
+		/**
+		 * Gets the namespace id.
+		 *
+		 * @return Namespace id.
+		 */
+		public NamespaceId getNamespaceId() {
+			return registrationTransaction.getNamespaceId();
+		}
+
+		/**
+		 * Gets the last registration transaction of the namespace.
+		 *
+		 * @return Namespace registration transaction.
+		 */
+		public NamespaceRegistrationTransaction getRegistrationTransaction() {
+			return registrationTransaction;
+		}
+
+		/**
+		 * Gets the owner public key.
+		 *
+		 * @return Owner public key.
+		 */
+		public String getOwnerPublicKey() {
+			return ownerPublicKey;
+		}
+
+		/**
+		 * Gets the height after which the namespace is in its grace period.
+		 *
+		 * @return Expiry height.
+		 */
+		public long getExpiryHeight() {
+			return expiryHeight;
+		}
+	}
+}
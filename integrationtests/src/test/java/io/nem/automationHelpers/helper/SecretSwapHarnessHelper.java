@@ -0,0 +1,294 @@
+/*
+ * Copyright (c) 2016-present,
+ * Jaguar0625, gimre, BloodyRookie, Tech Bureau, Corp. All rights reserved.
+ *
+ * This file is part of Catapult.
+ *
+ * Catapult is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Catapult is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Catapult.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.nem.automationHelpers.helper;
+
+import io.nem.automationHelpers.common.AccountReservoir;
+import io.nem.automationHelpers.common.LatencyDistribution;
+import io.nem.automationHelpers.common.RandomSource;
+import io.nem.automationHelpers.common.TestContext;
+import io.nem.sdk.model.account.Account;
+import io.nem.sdk.model.account.Address;
+import io.nem.sdk.model.mosaic.Mosaic;
+import io.nem.sdk.model.mosaic.NetworkCurrencyMosaic;
+import io.nem.sdk.model.transaction.LockHashAlgorithmType;
+import io.nem.sdk.model.transaction.SignedTransaction;
+import org.bouncycastle.util.encoders.Hex;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Measures secret lock and proof throughput. Swaps are announced in waves: the locks of the next wave go out once
+ * the locks of the current wave are confirmed, at the same time as the proofs of the current wave, so locks and
+ * proofs share consecutive blocks.
+ */
+public class SecretSwapHarnessHelper {
+	private final TestContext testContext;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param testContext Test context.
+	 */
+	public SecretSwapHarnessHelper(final TestContext testContext) {
+		this.testContext = testContext;
+	}
+
+	/**
+	 * Runs swaps across all hash algorithms and the given proof sizes.
+	 *
+	 * @param locker       Account which locks the mosaic and announces the proofs.
+	 * @param mosaic       Mosaic locked by each swap.
+	 * @param lockDuration Lock duration in blocks.
+	 * @param proofSizes   Proof sizes in bytes, used in turn.
+	 * @param swapCount    Number of swaps.
+	 * @param waveSize     Number of swaps announced together.
+	 * @return Swap report.
+	 */
+	public SwapReport run(
+			final Account locker,
+			final Mosaic mosaic,
+			final BigInteger lockDuration,
+			final List<Integer> proofSizes,
+			final int swapCount,
+			final int waveSize) {
+		final LockHashAlgorithmType[] hashTypes = LockHashAlgorithmType.values();
+		final List<Swap> swaps = new ArrayList<>(swapCount);
+		for (int i = 0; i < swapCount; i++) {
+			swaps.add(createSwap(hashTypes[i % hashTypes.length], proofSizes.get(i % proofSizes.size())));
+		}
+		// The harness runs for many waves, so it uses its own pool instead of collecting operations in a setup helper.
+		final ExecutorService executorService =
+				Executors.newFixedThreadPool(testContext.getConfigFileReader().getAsyncSetupThreadCount());
+		final List<CompletableFuture<Swap>> results = new ArrayList<>(swapCount);
+		final long startTime = System.nanoTime();
+		try {
+			for (int waveStart = 0; waveStart < swapCount; waveStart += waveSize) {
+				final List<CompletableFuture<Swap>> lockedSwaps = new ArrayList<>(waveSize);
+				for (final Swap swap : swaps.subList(waveStart, Math.min(swapCount, waveStart + waveSize))) {
+					lockedSwaps.add(
+							CompletableFuture.supplyAsync(() -> lock(locker, mosaic, lockDuration, swap), executorService));
+				}
+				// The next wave starts once this wave is locked, while the proofs of this wave are announced.
+				CompletableFuture.allOf(lockedSwaps.toArray(new CompletableFuture[0])).join();
+				lockedSwaps.forEach(
+						lockedSwap ->
+								results.add(lockedSwap.thenApplyAsync(swap -> prove(locker, swap), executorService)));
+			}
+			CompletableFuture.allOf(results.toArray(new CompletableFuture[0])).join();
+		}
+		finally {
+			executorService.shutdown();
+		}
+		final SwapReport swapReport =
+				new SwapReport(swaps, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+		testContext.getLogger().LogInfo("Secret swaps: {}", swapReport);
+		return swapReport;
+	}
+
+	/**
+	 * Runs swaps with the default signer account, each locking one absolute unit of the network currency for 100
+	 * blocks.
+	 *
+	 * @param args Number of swaps, wave size and optional comma separated proof sizes.
+	 */
+	public static void main(final String[] args) {
+		if (args.length < 2) {
+			System.out.println(
+					"Usage: SecretSwapHarnessHelper <number of swaps> <wave size> [proof sizes, e.g. 20,64,256,1024]");
+			return;
+		}
+		final List<Integer> proofSizes =
+				Arrays.stream((args.length > 2 ? args[2] : "20,64,256,1024").split(","))
+						.map(proofSize -> Integer.parseInt(proofSize.trim()))
+						.collect(Collectors.toList());
+		final TestContext testContext = new TestContext();
+		final SwapReport swapReport =
+				new SecretSwapHarnessHelper(testContext)
+						.run(
+								testContext.getDefaultSignerAccount(),
+								NetworkCurrencyMosaic.createAbsolute(BigInteger.ONE),
+								BigInteger.valueOf(100),
+								proofSizes,
+								Integer.parseInt(args[0]),
+								Integer.parseInt(args[1]));
+		swapReport.getErrors().stream()
+				.limit(10)
+				.forEach(error -> testContext.getLogger().LogError("Swap failed: {}", error));
+	}
+
+	private Swap createSwap(final LockHashAlgorithmType hashType, final int proofSize) {
+		final byte[] proofBytes = RandomSource.nextSecretBytes(proofSize);
+		final String secret =
+				Hex.toHexString(new SecretLockHelper(testContext).getHashInLittleEndian(hashType, proofBytes));
+		final Address recipient =
+				AccountReservoir.getInstance(testContext.getNetworkType()).generateNewAccount().getAddress();
+		return new Swap(hashType, proofSize, secret, Hex.toHexString(proofBytes), recipient);
+	}
+
+	private Swap lock(final Account locker, final Mosaic mosaic, final BigInteger lockDuration, final Swap swap) {
+		final TransactionHelper transactionHelper = new TransactionHelper(testContext);
+		swap.lockAnnounceTime = System.nanoTime();
+		try {
+			final SignedTransaction signedTransaction =
+					new SecretLockHelper(testContext)
+							.createSecretLockAndAnnounce(
+									locker, mosaic, lockDuration, swap.hashType, swap.secret, swap.recipient);
+			transactionHelper.waitForTransactionToComplete(signedTransaction);
+		} catch (final RuntimeException e) {
+			swap.error = "lock: " + e.getMessage();
+		}
+		return swap;
+	}
+
+	private Swap prove(final Account prover, final Swap swap) {
+		if (null != swap.error) {
+			return swap;
+		}
+		try {
+			final SignedTransaction signedTransaction =
+					new SecretProofHelper(testContext)
+							.createSecretProofAndAnnounce(prover, swap.hashType, swap.recipient, swap.secret, swap.proof);
+			new TransactionHelper(testContext).waitForTransactionToComplete(signedTransaction);
+			swap.claimTime = System.nanoTime();
+		} catch (final RuntimeException e) {
+			swap.error = "proof: " + e.getMessage();
+		}
+		return swap;
+	}
+
+	/**
+	 * Lock and proof pair.
+	 */
+	private static class Swap {
+		private final LockHashAlgorithmType hashType;
+		private final int proofSize;
+		private final String secret;
+		private final String proof;
+		private final Address recipient;
+		private volatile long lockAnnounceTime;
+		private volatile long claimTime;
+		private volatile String error;
+
+		Swap(
+				final LockHashAlgorithmType hashType,
+				final int proofSize,
+				final String secret,
+				final String proof,
+				final Address recipient) {
+			this.hashType = hashType;
+			this.proofSize = proofSize;
+			this.secret = secret;
+			this.proof = proof;
+			this.recipient = recipient;
+		}
+	}
+
+	/**
+	 * Throughput and lock to claim latency of a run.
+	 */
+	public static class SwapReport {
+		private final int swapCount;
+		private final int failedSwapCount;
+		private final long elapsedTimeInMilliseconds;
+		private final LatencyDistribution latencies;
+		private final Map<String, Integer> completedSwapsByType = new TreeMap<>();
+		private final List<String> errors = new ArrayList<>();
+
+		SwapReport(final List<Swap> swaps, final long elapsedTimeInMilliseconds) {
+			this.swapCount = swaps.size();
+			this.elapsedTimeInMilliseconds = elapsedTimeInMilliseconds;
+			final List<Long> latenciesInMilliseconds = new ArrayList<>(swaps.size());
+			for (final Swap swap : swaps) {
+				if (null != swap.error || 0 == swap.claimTime) {
+					errors.add(swap.hashType + "/" + swap.proofSize + " " + (null == swap.error ? "not claimed" : swap.error));
+					continue;
+				}
+				latenciesInMilliseconds.add(TimeUnit.NANOSECONDS.toMillis(swap.claimTime - swap.lockAnnounceTime));
+				completedSwapsByType.merge(swap.hashType + "/" + swap.proofSize, 1, Integer::sum);
+			}
+			this.latencies = new LatencyDistribution(latenciesInMilliseconds);
+			this.failedSwapCount = errors.size();
+		}
+
+		/**
+		 * Gets the number of completed swaps per second.
+		 *
+		 * @return Swaps per second.
+		 */
+		public double getSwapsPerSecond() {
+			return 0 == elapsedTimeInMilliseconds
+					? 0
+					: latencies.getCount() * 1000.0 / elapsedTimeInMilliseconds;
+		}
+
+		/**
+		 * Gets the lock to claim latencies of the completed swaps.
+		 *
+		 * @return Latency distribution.
+		 */
+		public LatencyDistribution getLatencies() {
+			return latencies;
+		}
+
+		/**
+		 * Gets the number of failed swaps.
+		 *
+		 * @return Number of failed swaps.
+		 */
+		public int getFailedSwapCount() {
+			return failedSwapCount;
+		}
+
+		/**
+		 * Gets the errors of the failed swaps.
+		 *
+		 * @return Errors.
+		 */
+		public List<String> getErrors() {
+			return errors;
+		}
+
+		/**
+		 * Gets the number of completed swaps per hash type and proof size.
+		 *
+		 * @return Completed swaps keyed by "hashType/proofSize".
+		 */
+		public Map<String, Integer> getCompletedSwapsByType() {
+			return completedSwapsByType;
+		}
+
+		@Override
+		public String toString() {
+			return "swaps=" + swapCount + " failed=" + failedSwapCount + " elapsedMs=" + elapsedTimeInMilliseconds
+					+ String.format(" swapsPerSecond=%.3f", getSwapsPerSecond())
+					+ " latencyMs(" + latencies + ")";
+		}
+	}
+}
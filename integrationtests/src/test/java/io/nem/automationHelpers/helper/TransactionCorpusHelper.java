@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2016-present,
+ * Jaguar0625, gimre, BloodyRookie, Tech Bureau, Corp. All rights reserved.
+ *
+ * This file is part of Catapult.
+ *
+ * Catapult is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Catapult is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Catapult.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.nem.automationHelpers.helper;
+
+import io.nem.automationHelpers.common.AccountReservoir;
+import io.nem.automationHelpers.common.SignedTransactionCorpus;
+import io.nem.automationHelpers.common.TestContext;
+import io.nem.core.utils.ExceptionUtils;
+import io.nem.sdk.infrastructure.common.TransactionRepository;
+import io.nem.sdk.infrastructure.directconnect.dataaccess.dao.TransactionDao;
+import io.nem.sdk.model.account.Account;
+import io.nem.sdk.model.message.PlainMessage;
+import io.nem.sdk.model.transaction.SignedTransaction;
+import io.nem.sdk.model.transaction.Transaction;
+import org.apache.commons.lang3.tuple.Pair;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Generates corpora of pre-signed transactions and replays them at a target rate, so announce throughput is not
+ * limited by client side signing.
+ */
+public class TransactionCorpusHelper {
+	private static final int SIGN_BATCH_SIZE = 1000;
+	private final TestContext testContext;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param testContext Test context.
+	 */
+	public TransactionCorpusHelper(final TestContext testContext) {
+		this.testContext = testContext;
+	}
+
+	/**
+	 * Generates a corpus of transfers to new accounts. The transactions are signed in batches and streamed to the
+	 * file. They use the default deadline, so the corpus must be replayed before it expires.
+	 *
+	 * @param file   Corpus file.
+	 * @param sender Sender account.
+	 * @param count  Number of transactions.
+	 */
+	public void generateTransferCorpus(final Path file, final Account sender, final int count) {
+		final TransferHelper transferHelper = new TransferHelper(testContext);
+		final BatchSignHelper batchSignHelper = new BatchSignHelper(testContext);
+		final AccountReservoir accountReservoir = AccountReservoir.getInstance(testContext.getNetworkType());
+		try (final SignedTransactionCorpus.Writer writer = SignedTransactionCorpus.create(file)) {
+			for (int start = 0; start < count; start += SIGN_BATCH_SIZE) {
+				final int batchSize = Math.min(SIGN_BATCH_SIZE, count - start);
+				final List<Pair<? extends Transaction, Account>> transactionsToSign = new ArrayList<>(batchSize);
+				for (int i = 0; i < batchSize; i++) {
+					transactionsToSign.add(
+							Pair.of(
+									transferHelper.createTransferTransaction(
+											accountReservoir.generateNewAccount().getAddress(),
+											new ArrayList<>(),
+											PlainMessage.create("")),
+									sender));
+				}
+				batchSignHelper.signTransactions(transactionsToSign).forEach(writer::append);
+			}
+		}
+		testContext.getLogger().LogInfo("Wrote {} signed transactions to {}", count, file);
+	}
+
+	/**
+	 * Announces all transactions of a corpus at a target rate.
+	 *
+	 * @param file                  Corpus file.
+	 * @param transactionsPerSecond Target announce rate, greater than 0.
+	 * @return Number of announced transactions.
+	 */
+	public int replay(final Path file, final int transactionsPerSecond) {
+		if (transactionsPerSecond <= 0) {
+			throw new IllegalArgumentException("transactionsPerSecond must be greater than 0");
+		}
+		final TransactionRepository transactionRepository = new TransactionDao(testContext.getCatapultContext());
+		final Queue<Future<?>> announces = new ArrayDeque<>();
+		final long intervalInNanos = TimeUnit.SECONDS.toNanos(1) / transactionsPerSecond;
+		final long startTime = System.nanoTime();
+		int announcedCount = 0;
+		try (final SignedTransactionCorpus corpus = SignedTransactionCorpus.open(file)) {
+			for (final SignedTransaction signedTransaction : corpus) {
+				// parkNanos can return early, so park until the announce time is reached.
+				final long announceTime = startTime + announcedCount * intervalInNanos;
+				for (long waitInNanos = announceTime - System.nanoTime();
+					 waitInNanos > 0;
+					 waitInNanos = announceTime - System.nanoTime()) {
+					LockSupport.parkNanos(waitInNanos);
+				}
+				testContext.getTransactionEventLog().announced(signedTransaction);
+				announces.add(transactionRepository.announce(signedTransaction).toFuture());
+				announcedCount++;
+				// Only the announces still in flight are kept.
+				while (!announces.isEmpty() && announces.peek().isDone()) {
+					ExceptionUtils.propagate(announces.poll()::get);
+				}
+			}
+		}
+		announces.forEach(announce -> ExceptionUtils.propagate(announce::get));
+		final long elapsedInMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+		testContext.getLogger().LogInfo(
+				"Replayed {} transactions in {} ms (target {} per second)",
+				announcedCount, elapsedInMillis, transactionsPerSecond);
+		return announcedCount;
+	}
+
+	/**
+	 * Generates or replays a corpus with the default signer account.
+	 *
+	 * @param args Mode (generate or replay), corpus file and the number of transactions or the target rate.
+	 */
+	public static void main(final String[] args) {
+		if (args.length < 3
+				|| !("generate".equals(args[0]) || "replay".equals(args[0]))
+				|| !args[2].matches("\\d{1,9}")
+				|| Integer.parseInt(args[2]) <= 0) {
+			System.out.println("Usage: TransactionCorpusHelper generate <corpus file> <number of transactions>");
+			System.out.println("       TransactionCorpusHelper replay <corpus file> <transactions per second>");
+			System.out.println("The number of transactions and the rate must be greater than 0.");
+			return;
+		}
+		final TestContext testContext = new TestContext();
+		final TransactionCorpusHelper transactionCorpusHelper = new TransactionCorpusHelper(testContext);
+		final Path file = Paths.get(args[1]);
+		final int value = Integer.parseInt(args[2]);
+		if ("generate".equals(args[0])) {
+			transactionCorpusHelper.generateTransferCorpus(file, testContext.getDefaultSignerAccount(), value);
+		} else {
+			transactionCorpusHelper.replay(file, value);
+		}
+	}
+}
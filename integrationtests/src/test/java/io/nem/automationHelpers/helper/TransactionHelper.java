@@ -20,9 +20,12 @@
 
 package io.nem.automationHelpers.helper;
 
+import io.nem.automationHelpers.common.BlockConfirmationWaiter;
+import io.nem.automationHelpers.common.RetryPolicy;
 import io.nem.automationHelpers.common.TestContext;
+import io.nem.automationHelpers.common.TransactionStatusStream;
+import io.nem.automationHelpers.config.ConfigFileReader;
 import io.nem.core.utils.ExceptionUtils;
-import io.nem.core.utils.RetryCommand;
 import io.nem.sdk.infrastructure.common.TransactionRepository;
 import io.nem.sdk.infrastructure.directconnect.dataaccess.dao.AccountsDao;
 import io.nem.sdk.infrastructure.directconnect.dataaccess.dao.TransactionDao;
@@ -35,6 +38,10 @@ import java.math.BigInteger;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -123,12 +130,14 @@ public class TransactionHelper {
 	 * @return Transaction status.
 	 */
 	public TransactionStatus getTransactionStatus(final String hash) {
-		return ExceptionUtils.propagate(
+		final TransactionStatus transactionStatus = ExceptionUtils.propagate(
 				() ->
 						new TransactionDao(testContext.getCatapultContext())
 								.getTransactionStatus(hash)
 								.toFuture()
 								.get());
+		testContext.getTransactionEventLog().status(hash, transactionStatus.getStatus());
+		return transactionStatus;
 	}
 
 	/**
@@ -160,7 +169,43 @@ public class TransactionHelper {
 	 */
 	public <T extends Transaction> T waitForTransactionToComplete(
 			final SignedTransaction signedTransaction) {
-		return waitForTransaction(signedTransaction, (final String hash) -> getTransaction(hash));
+		waitForBlockConfirmation(signedTransaction.getHash());
+		return waitForTransaction(signedTransaction, (final String hash) -> getTransaction(hash), "confirmed");
+	}
+
+	/**
+	 * Waits on the shared block aligned waiter until a transaction is in a block. Transactions announced before the
+	 * same block are released together, and a missing confirmation is left to the caller's retry.
+	 *
+	 * @param hash Transaction hash.
+	 */
+	private void waitForBlockConfirmation(final String hash) {
+		final ConfigFileReader configFileReader = testContext.getConfigFileReader();
+		if (0 == configFileReader.getBlockAlignedWaitInBlocks()) {
+			return;
+		}
+		final BlockConfirmationWaiter blockConfirmationWaiter = BlockConfirmationWaiter.getInstance(configFileReader);
+		final TransactionStatusStream statusStream = TransactionStatusStream.getInstance(configFileReader);
+		final long timeoutInSeconds =
+				(long) configFileReader.getBlockAlignedWaitInBlocks() * configFileReader.getBlockGenerationTargetTimeInSeconds();
+		final CompletableFuture<Long> confirmation = blockConfirmationWaiter.awaitConfirmation(hash);
+		final CompletableFuture<String> status = statusStream.awaitStatus(hash);
+		try {
+			// A rejected transaction never reaches a block, so stop as soon as a status is written.
+			CompletableFuture.anyOf(confirmation, status)
+					.get(timeoutInSeconds, TimeUnit.SECONDS);
+		}
+		catch (final TimeoutException | ExecutionException e) {
+			testContext.getLogger().LogInfo("No block confirmation for tx hash: {}", hash);
+		}
+		catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(e);
+		}
+		finally {
+			blockConfirmationWaiter.cancel(hash, confirmation);
+			statusStream.cancel(hash, status);
+		}
 	}
 
 	/**
@@ -171,7 +216,7 @@ public class TransactionHelper {
 	 */
 	public AggregateTransaction waitForBondedTransaction(
 			final SignedTransaction signedTransaction) {
-		return waitForTransaction(signedTransaction, (final String hash) -> getBondedTransaction(hash));
+		return waitForTransaction(signedTransaction, (final String hash) -> getBondedTransaction(hash), "partial");
 	}
 
 	/**
@@ -179,28 +224,30 @@ public class TransactionHelper {
 	 *
 	 * @param signedTransaction Signed transaction to wait for.
 	 * @param getTransaction    Function to get the transaction.
+	 * @param statusGroup       Status group the transaction is in once found.
 	 * @param <T>               Transaction type.
 	 * @return Transaction if found.
 	 */
 	public <T extends Transaction> T waitForTransaction(final SignedTransaction signedTransaction,
-														final Function<String, T> getTransaction) {
-		final int retries = 2;
-		final int waitTimeInMilliseconds = 500;
-		testContext.getLogger().LogInfo("Start waiting for tx hash: ", signedTransaction.toString());
-		return new RetryCommand<T>(retries, waitTimeInMilliseconds, Optional.empty())
+														final Function<String, T> getTransaction,
+														final String statusGroup) {
+		testContext.getLogger().LogInfo("Start waiting for tx hash: {}", signedTransaction);
+		return testContext.getConfigFileReader().getRetryPolicy("transactionWait")
 				.run(
-						(final RetryCommand<T> retryCommand) -> {
+						(final RetryPolicy.Attempt attempt) -> {
 							try {
-								return getTransaction.apply(signedTransaction.getHash());
+								final T transaction = getTransaction.apply(signedTransaction.getHash());
+								testContext.getTransactionEventLog().confirmed(signedTransaction, statusGroup);
+								return transaction;
 							}
 							catch (final IllegalArgumentException e) {
 								testContext.getLogger().LogException(e);
 								final TransactionStatus transactionStatus =
 										getTransactionStatusNoThrow(signedTransaction.getHash());
 								if (!transactionStatus.getStatus().equalsIgnoreCase("SUCCESS")) {
-									testContext.getLogger().LogInfo("Status is success for hash: " + signedTransaction.toString());
+									testContext.getLogger().LogInfo("Status is success for hash: {}", signedTransaction);
 									// Transaction was not found.
-									retryCommand.cancelRetry();
+									attempt.cancelRetry();
 								}
 								throw new RuntimeException(
 										"txStatus: "
@@ -211,9 +258,56 @@ public class TransactionHelper {
 												+ signedTransaction.toString(),
 										e);
 							}
-						});
+						},
+						() -> new BlockChainHelper(testContext).getBlockchainHeight().longValue());
+	}
+
+	/**
+	 * Waits for a transaction to be rejected. The status stream reports the rejection as soon as it is written. If
+	 * the stream times out the status is checked once, the retry policy is only used if the stream failed.
+	 *
+	 * @param hash Transaction hash.
+	 * @return Transaction status.
+	 */
+	public TransactionStatus waitForTransactionFailure(final String hash) {
+		final RetryPolicy retryPolicy = testContext.getConfigFileReader().getRetryPolicy("transactionError");
+		final TransactionStatusStream statusStream =
+				TransactionStatusStream.getInstance(testContext.getConfigFileReader());
+		final long timeoutInMilliseconds = retryPolicy.getBudgetInMilliseconds() > 0
+				? retryPolicy.getBudgetInMilliseconds()
+				: testContext.getConfigFileReader().getSocketTimeoutInMilliseconds();
+		final CompletableFuture<String> status = statusStream.awaitStatus(hash);
+		try {
+			status.get(timeoutInMilliseconds, TimeUnit.MILLISECONDS);
+		}
+		catch (final TimeoutException e) {
+			// The wait budget is used up, so do not start the retry policy on top of it.
+			testContext.getLogger().LogInfo("No status streamed for tx hash: {}", hash);
+			return getTransactionFailure(hash);
+		}
+		catch (final ExecutionException e) {
+			testContext.getLogger().LogInfo("Status stream failed for tx hash: {}", hash);
+		}
+		catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(e);
+		}
+		finally {
+			statusStream.cancel(hash, status);
+		}
+		return retryPolicy.run(
+				(final RetryPolicy.Attempt attempt) -> getTransactionFailure(hash),
+				() -> new BlockChainHelper(testContext).getBlockchainHeight().longValue());
 	}
 
+	private TransactionStatus getTransactionFailure(final String hash) {
+		final TransactionStatus transactionStatus = getTransactionStatus(hash);
+		if (transactionStatus.getStatus().toUpperCase().startsWith("FAILURE_")) {
+			return transactionStatus;
+		}
+		throw new RuntimeException(
+				"Transaction has not failed yet. TransactionStatus: " + transactionStatus.toString());
+	}
 
 	/**
 	 * Announce a signed transaction.
@@ -223,7 +317,8 @@ public class TransactionHelper {
 	public void announceTransaction(final SignedTransaction signedTransaction) {
 		final TransactionRepository transactionRepository =
 				new TransactionDao(testContext.getCatapultContext());
-		testContext.getLogger().LogInfo("Announce tx : " + signedTransaction.toString());
+		testContext.getLogger().LogInfo("Announce tx : {}", signedTransaction);
+		testContext.getTransactionEventLog().announced(signedTransaction);
 		ExceptionUtils.propagate(
 				() -> transactionRepository.announce(signedTransaction).toFuture().get());
 	}
@@ -236,7 +331,8 @@ public class TransactionHelper {
 	public void announceAggregateBonded(final SignedTransaction signedTransaction) {
 		final TransactionRepository transactionRepository =
 				new TransactionDao(testContext.getCatapultContext());
-		testContext.getLogger().LogInfo("Announce bonded tx : " + signedTransaction.toString());
+		testContext.getLogger().LogInfo("Announce bonded tx : {}", signedTransaction);
+		testContext.getTransactionEventLog().announced(signedTransaction);
 		ExceptionUtils.propagate(
 				() -> transactionRepository.announceAggregateBonded(signedTransaction).toFuture().get());
 	}
@@ -250,7 +346,7 @@ public class TransactionHelper {
 			final CosignatureSignedTransaction signedTransaction) {
 		final TransactionRepository transactionRepository =
 				new TransactionDao(testContext.getCatapultContext());
-		testContext.getLogger().LogInfo("Announce aggregate bonded cosignature tx : " + signedTransaction.toString());
+		testContext.getLogger().LogInfo("Announce aggregate bonded cosignature tx : {}", signedTransaction);
 		ExceptionUtils.propagate(
 				() ->
 						transactionRepository
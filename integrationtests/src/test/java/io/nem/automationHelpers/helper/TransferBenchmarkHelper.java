@@ -0,0 +1,324 @@
+/*
+ * Copyright (c) 2016-present,
+ * Jaguar0625, gimre, BloodyRookie, Tech Bureau, Corp. All rights reserved.
+ *
+ * This file is part of Catapult.
+ *
+ * Catapult is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Catapult is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Catapult.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.nem.automationHelpers.helper;
+
+import io.nem.automationHelpers.common.AccountReservoir;
+import io.nem.automationHelpers.common.LatencyDistribution;
+import io.nem.automationHelpers.common.TestContext;
+import io.nem.sdk.model.account.Account;
+import io.nem.sdk.model.account.Address;
+import io.nem.sdk.model.message.Message;
+import io.nem.sdk.model.message.PlainMessage;
+import io.nem.sdk.model.mosaic.Mosaic;
+import io.nem.sdk.model.mosaic.MosaicFlags;
+import io.nem.sdk.model.mosaic.MosaicId;
+import io.nem.sdk.model.mosaic.MosaicInfo;
+import io.nem.sdk.model.transaction.SignedTransaction;
+import org.apache.commons.lang3.RandomStringUtils;
+import org.apache.commons.lang3.tuple.Pair;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Measures how the message size and the number of mosaics of a transfer affect the client side serialization
+ * cost, the confirmation latency and the share of transactions accepted by the node.
+ */
+public class TransferBenchmarkHelper {
+	private final TestContext testContext;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param testContext Test context.
+	 */
+	public TransferBenchmarkHelper(final TestContext testContext) {
+		this.testContext = testContext;
+	}
+
+	/**
+	 * Sweeps the message size with one mosaic and then the number of mosaics with an empty message, doubling up to
+	 * the protocol limits.
+	 *
+	 * @param sender               Sender account.
+	 * @param transactionsPerPoint Number of transfers announced for each point.
+	 * @return Benchmark points.
+	 */
+	public List<BenchmarkPoint> runSweep(final Account sender, final int transactionsPerPoint) {
+		// The message type takes one byte of the message.
+		final int maxMessageSize = testContext.getConfigFileReader().getMaxTransferMessageSize() - 1;
+		final int maxMosaics = testContext.getConfigFileReader().getMaxTransferMosaics();
+		final List<Pair<Integer, Integer>> points = new ArrayList<>();
+		points.add(Pair.of(0, 1));
+		for (int messageSize = 16; messageSize < maxMessageSize; messageSize *= 2) {
+			points.add(Pair.of(messageSize, 1));
+		}
+		points.add(Pair.of(maxMessageSize, 1));
+		for (int mosaicCount = 2; mosaicCount < maxMosaics; mosaicCount *= 2) {
+			points.add(Pair.of(0, mosaicCount));
+		}
+		points.add(Pair.of(0, maxMosaics));
+		return run(sender, points, transactionsPerPoint);
+	}
+
+	/**
+	 * Runs every combination of message size and number of mosaics.
+	 *
+	 * @param sender               Sender account.
+	 * @param messageSizes         Message sizes in bytes.
+	 * @param mosaicCounts         Numbers of mosaics.
+	 * @param transactionsPerPoint Number of transfers announced for each point.
+	 * @return Benchmark points.
+	 */
+	public List<BenchmarkPoint> run(
+			final Account sender,
+			final List<Integer> messageSizes,
+			final List<Integer> mosaicCounts,
+			final int transactionsPerPoint) {
+		final List<Pair<Integer, Integer>> points = new ArrayList<>(messageSizes.size() * mosaicCounts.size());
+		messageSizes.forEach(messageSize -> mosaicCounts.forEach(mosaicCount -> points.add(Pair.of(messageSize, mosaicCount))));
+		return run(sender, points, transactionsPerPoint);
+	}
+
+	/**
+	 * Runs the sweep, or the given message sizes and numbers of mosaics, with the default signer account.
+	 *
+	 * @param args Transfers per point and optional comma separated message sizes and numbers of mosaics.
+	 */
+	public static void main(final String[] args) {
+		if (1 != args.length && 3 != args.length) {
+			System.out.println(
+					"Usage: TransferBenchmarkHelper <transfers per point> [<message sizes, e.g. 0,256> <mosaic counts, e.g. 1,8>]");
+			return;
+		}
+		final int transactionsPerPoint = Integer.parseInt(args[0]);
+		final TestContext testContext = new TestContext();
+		final TransferBenchmarkHelper transferBenchmarkHelper = new TransferBenchmarkHelper(testContext);
+		final Account sender = testContext.getDefaultSignerAccount();
+		if (1 == args.length) {
+			transferBenchmarkHelper.runSweep(sender, transactionsPerPoint);
+		} else {
+			transferBenchmarkHelper.run(sender, parseList(args[1]), parseList(args[2]), transactionsPerPoint);
+		}
+	}
+
+	private static List<Integer> parseList(final String values) {
+		return Arrays.stream(values.split(",")).map(value -> Integer.parseInt(value.trim())).collect(Collectors.toList());
+	}
+
+	private List<BenchmarkPoint> run(
+			final Account sender, final List<Pair<Integer, Integer>> points, final int transactionsPerPoint) {
+		final int mosaicCount = points.stream().mapToInt(Pair::getRight).max().orElse(0);
+		final List<MosaicId> mosaicIds = createMosaics(sender, mosaicCount, transactionsPerPoint * points.size());
+		final List<BenchmarkPoint> benchmarkPoints = new ArrayList<>(points.size());
+		for (final Pair<Integer, Integer> point : points) {
+			final BenchmarkPoint benchmarkPoint =
+					runPoint(sender, point.getLeft(), mosaicIds.subList(0, point.getRight()), transactionsPerPoint);
+			testContext.getLogger().LogInfo("Transfer benchmark: {}", benchmarkPoint);
+			benchmarkPoints.add(benchmarkPoint);
+		}
+		return benchmarkPoints;
+	}
+
+	private List<MosaicId> createMosaics(final Account sender, final int mosaicCount, final int supply) {
+		if (0 == mosaicCount) {
+			return new ArrayList<>();
+		}
+		final List<MosaicInfo> mosaics =
+				new MosaicPoolHelper(testContext)
+						.mint(
+								sender,
+								MosaicFlags.create(false, true),
+								0,
+								BigInteger.ZERO,
+								BigInteger.valueOf(supply),
+								mosaicCount);
+		// Transfers must list their mosaics in ascending id order.
+		return mosaics.stream()
+				.map(MosaicInfo::getMosaicId)
+				.sorted((first, second) -> Long.compareUnsigned(first.getIdAsLong(), second.getIdAsLong()))
+				.collect(Collectors.toList());
+	}
+
+	private BenchmarkPoint runPoint(
+			final Account sender, final int messageSize, final List<MosaicId> mosaicIds, final int transactionCount) {
+		final TransferHelper transferHelper = new TransferHelper(testContext);
+		final TransactionHelper transactionHelper = new TransactionHelper(testContext);
+		final List<Mosaic> mosaics =
+				mosaicIds.stream().map(mosaicId -> new Mosaic(mosaicId, BigInteger.ONE)).collect(Collectors.toList());
+		final Message message = PlainMessage.create(RandomStringUtils.randomAlphanumeric(messageSize));
+		// Every transfer goes to its own recipient so that transfers signed within the same deadline millisecond
+		// do not share a hash and get dropped as duplicates.
+		final AccountReservoir accountReservoir = AccountReservoir.getInstance(testContext.getNetworkType());
+		final List<Address> recipients = new ArrayList<>(transactionCount);
+		for (int i = 0; i < transactionCount; i++) {
+			recipients.add(accountReservoir.generateNewAccount().getAddress());
+		}
+		final List<SignedTransaction> signedTransactions = new ArrayList<>(transactionCount);
+		final long serializationStartTime = System.nanoTime();
+		for (int i = 0; i < transactionCount; i++) {
+			signedTransactions.add(
+					transactionHelper.signTransaction(
+							transferHelper.createTransferTransaction(recipients.get(i), mosaics, message), sender));
+		}
+		final long serializationTimeInNanoseconds = System.nanoTime() - serializationStartTime;
+		final AsyncSetupHelper asyncSetupHelper = new AsyncSetupHelper(testContext);
+		final List<CompletableFuture<Long>> confirmations = new ArrayList<>(transactionCount);
+		final long startTime = System.nanoTime();
+		for (final SignedTransaction signedTransaction : signedTransactions) {
+			final long announceTime = System.nanoTime();
+			try {
+				transactionHelper.announceTransaction(signedTransaction);
+			} catch (final RuntimeException e) {
+				testContext.getLogger().LogError("Announce failed for tx hash {}: {}", signedTransaction.getHash(), e.getMessage());
+				continue;
+			}
+			confirmations.add(
+					asyncSetupHelper.submit(
+							() -> {
+								try {
+									transactionHelper.waitForTransactionToComplete(signedTransaction);
+									return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - announceTime);
+								} catch (final RuntimeException e) {
+									return -1L;
+								}
+							}));
+		}
+		final List<Long> latencies =
+				asyncSetupHelper.await(confirmations).stream().filter(latency -> latency >= 0).collect(Collectors.toList());
+		return new BenchmarkPoint(
+				messageSize,
+				mosaics.size(),
+				signedTransactions.isEmpty() ? 0 : signedTransactions.get(0).getPayload().length() / 2,
+				TimeUnit.NANOSECONDS.toMicros(serializationTimeInNanoseconds) / Math.max(1, transactionCount),
+				transactionCount,
+				new LatencyDistribution(latencies),
+				TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+	}
+
+	/**
+	 * Results of one message size and number of mosaics.
+	 */
+	public static class BenchmarkPoint {
+		private final int messageSize;
+		private final int mosaicCount;
+		private final int payloadSize;
+		private final long serializationTimeInMicroseconds;
+		private final int announcedCount;
+		private final LatencyDistribution confirmationLatencies;
+		private final long elapsedTimeInMilliseconds;
+
+		BenchmarkPoint(
+				final int messageSize,
+				final int mosaicCount,
+				final int payloadSize,
+				final long serializationTimeInMicroseconds,
+				final int announcedCount,
+				final LatencyDistribution confirmationLatencies,
+				final long elapsedTimeInMilliseconds) {
+			this.messageSize = messageSize;
+			this.mosaicCount = mosaicCount;
+			this.payloadSize = payloadSize;
+			this.serializationTimeInMicroseconds = serializationTimeInMicroseconds;
+			this.announcedCount = announcedCount;
+			this.confirmationLatencies = confirmationLatencies;
+			this.elapsedTimeInMilliseconds = elapsedTimeInMilliseconds;
+		}
+
+		/**
+		 * Gets the message size.
+		 *
+		 * @return Message size in bytes.
+		 */
+		public int getMessageSize() {
+			return messageSize;
+		}
+
+		/**
+		 * Gets the number of mosaics.
+		 *
+		 * @return Number of mosaics.
+		 */
+		public int getMosaicCount() {
+			return mosaicCount;
+		}
+
+		/**
+		 * Gets the size of the signed transaction.
+		 *
+		 * @return Payload size in bytes.
+		 */
+		public int getPayloadSize() {
+			return payloadSize;
+		}
+
+		/**
+		 * Gets the average time to build and sign a transfer.
+		 *
+		 * @return Serialization time in microseconds.
+		 */
+		public long getSerializationTimeInMicroseconds() {
+			return serializationTimeInMicroseconds;
+		}
+
+		/**
+		 * Gets the share of the transfers confirmed by the node.
+		 *
+		 * @return Acceptance rate between 0 and 1.
+		 */
+		public double getAcceptanceRate() {
+			return 0 == announcedCount ? 0 : (double) confirmationLatencies.getCount() / announcedCount;
+		}
+
+		/**
+		 * Gets the number of confirmed transfers per second.
+		 *
+		 * @return Transfers per second.
+		 */
+		public double getTransactionsPerSecond() {
+			return 0 == elapsedTimeInMilliseconds
+					? 0
+					: confirmationLatencies.getCount() * 1000.0 / elapsedTimeInMilliseconds;
+		}
+
+		/**
+		 * Gets the latencies from announce to confirmation.
+		 *
+		 * @return Latency distribution.
+		 */
+		public LatencyDistribution getConfirmationLatencies() {
+			return confirmationLatencies;
+		}
+
+		@Override
+		public String toString() {
+			return "messageSize=" + messageSize + " mosaics=" + mosaicCount + " payloadSize=" + payloadSize
+					+ " serializationUs=" + serializationTimeInMicroseconds
+					+ String.format(" acceptanceRate=%.3f transactionsPerSecond=%.3f", getAcceptanceRate(),
+					getTransactionsPerSecond())
+					+ " confirmationMs(" + confirmationLatencies + ")";
+		}
+	}
+}